@@ -1,9 +1,14 @@
 package com.rest.api;
 
+import com.rest.api.aot.ApiRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(ApiRuntimeHints.class)
 public class ApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,72 @@
+package com.rest.api.aot;
+
+import com.rest.api.persistence.entity.RefreshTokenEntity;
+import com.rest.api.persistence.entity.RevokedTokenEntity;
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.projection.UserCredentials;
+import com.rest.api.presentation.dto.ErrorResponseDTO;
+import com.rest.api.presentation.dto.ImportResultDTO;
+import com.rest.api.presentation.dto.ImportRowErrorDTO;
+import com.rest.api.presentation.dto.RefreshTokenDTO;
+import com.rest.api.presentation.dto.TokenResponseDTO;
+import com.rest.api.presentation.dto.UserDTO;
+import com.rest.api.security.filters.JwtAuthenticationFilter;
+import com.rest.api.security.filters.LoginRateLimitFilter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Pistas de alcance para la imagen nativa de GraalVM: clases a las que se accede por reflexión y que el análisis
+ * AOT de Spring no descubre por sí solo.
+ *
+ * <ul>
+ *     <li>DTOs y entidades con métodos generados por Lombok, que Jackson e Hibernate leen por reflexión.</li>
+ *     <li>{@link UserCredentials}, que Hibernate construye por reflexión desde la expresión {@code select new}.</li>
+ *     <li>Las clases internas de {@code java-jwt} que Jackson inspecciona al leer y escribir la cabecera y el
+ *     contenido de los tokens.</li>
+ *     <li>Los filtros de seguridad, que {@code GenericFilterBean} inspecciona como beans al iniciarse.</li>
+ * </ul>
+ */
+public class ApiRuntimeHints implements RuntimeHintsRegistrar {
+    /**
+     * Clases internas de java-jwt serializadas con Jackson.
+     */
+    private static final String[] JWT_TYPES = {
+            "com.auth0.jwt.impl.BasicHeader",
+            "com.auth0.jwt.impl.PayloadImpl",
+            "com.auth0.jwt.impl.ClaimsHolder",
+            "com.auth0.jwt.impl.HeaderClaimsHolder",
+            "com.auth0.jwt.impl.PayloadClaimsHolder",
+            "com.auth0.jwt.impl.ClaimsSerializer",
+            "com.auth0.jwt.impl.HeaderSerializer",
+            "com.auth0.jwt.impl.PayloadSerializer",
+            "com.auth0.jwt.impl.HeaderDeserializer",
+            "com.auth0.jwt.impl.PayloadDeserializer",
+            "com.auth0.jwt.impl.JsonNodeClaim"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                UserDTO.class, TokenResponseDTO.class, RefreshTokenDTO.class, ErrorResponseDTO.class,
+                ImportResultDTO.class, ImportRowErrorDTO.class);
+
+        for (Class<?> entity : new Class<?>[]{UserEntity.class, RefreshTokenEntity.class, RevokedTokenEntity.class}) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.reflection().registerType(UserCredentials.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        for (String type : JWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        for (Class<?> filter : new Class<?>[]{JwtAuthenticationFilter.class, LoginRateLimitFilter.class}) {
+            hints.reflection().registerType(filter, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.rest.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Respuestas JSON con {@code Content-Length} en la pila servlet cuando la compresión está activa (perfil
+ * {@code high-throughput}).
+ *
+ * <p>Jackson escribe el cuerpo sin conocer su tamaño y Tomcat comprime toda respuesta de tamaño desconocido, aunque
+ * sea menor que {@code server.compression.min-response-size}: los tokens del inicio de sesión se comprimían. Este
+ * conversor serializa primero en memoria y declara el tamaño, para que el umbral se aplique. WebFlux ya declara el
+ * tamaño de los cuerpos {@code Mono}.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class JsonContentLengthConfig {
+
+    /**
+     * Reemplaza el conversor JSON de Spring Boot.
+     *
+     * @param objectMapper serializador configurado por Spring Boot.
+     * @return el conversor.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ContentLengthJsonConverter(objectMapper);
+    }
+
+    /**
+     * Conversor JSON que serializa el cuerpo completo antes de escribirlo y declara su tamaño.
+     */
+    static final class ContentLengthJsonConverter extends MappingJackson2HttpMessageConverter {
+
+        ContentLengthJsonConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+            super.writeInternal(object, type, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return buffer;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            });
+            outputMessage.getHeaders().setContentLength(buffer.size());
+            buffer.writeTo(outputMessage.getBody());
+        }
+    }
+}
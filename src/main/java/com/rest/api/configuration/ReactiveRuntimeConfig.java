@@ -0,0 +1,95 @@
+package com.rest.api.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Infraestructura de la pila reactiva, activa con {@code spring.main.web-application-type=reactive} (perfil
+ * {@code reactive}).
+ *
+ * <ul>
+ *     <li>Servidor Netty: Tomcat también está en el classpath por la pila servlet y Spring Boot lo preferiría.</li>
+ *     <li>Pool de conexiones R2DBC y {@link DatabaseClient}, creados aquí porque la configuración automática de
+ *     R2DBC está excluida: en la pila servlet no hay URL R2DBC y su administrador de transacciones reactivo
+ *     reemplazaría al de JPA.</li>
+ *     <li>Pool JDBC de JPA y Flyway, que Spring Boot deja de crear en cuanto existe un pool R2DBC; con réplicas de
+ *     lectura lo crea {@code ReadReplicaConfig}.</li>
+ * </ul>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveRuntimeConfig {
+
+    /**
+     * Servidor web Netty; los puertos y demás propiedades {@code server.*} se aplican como en el servidor por defecto.
+     *
+     * @return la fábrica del servidor.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Pool de conexiones R2DBC; las conexiones se abren con la primera consulta.
+     *
+     * @param url URL R2DBC de la base de datos.
+     * @param username usuario de la base de datos.
+     * @param password contraseña de la base de datos.
+     * @param maxSize número máximo de conexiones.
+     * @return el pool de conexiones.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(@Value("${spring.r2dbc.url}") String url,
+                                            @Value("${spring.r2dbc.username}") String username,
+                                            @Value("${spring.r2dbc.password}") String password,
+                                            @Value("${spring.r2dbc.pool.max-size:10}") int maxSize) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(url)
+                .username(username)
+                .password(password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("r2dbc")
+                .initialSize(0)
+                .maxSize(maxSize)
+                .build());
+    }
+
+    /**
+     * Pool JDBC, configurado con {@code spring.datasource.*} como el de Spring Boot.
+     *
+     * @param properties propiedades {@code spring.datasource.*}.
+     * @return el pool JDBC.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnExpression("'${persistence.replicas.urls:}'.isBlank()")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Cliente SQL no bloqueante sobre el pool.
+     *
+     * @param connectionFactory pool de conexiones R2DBC.
+     * @return el cliente.
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
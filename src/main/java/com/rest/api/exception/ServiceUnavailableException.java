@@ -0,0 +1,12 @@
+package com.rest.api.exception;
+
+/**
+ * Excepción personalizada para indicar que el servicio no puede atender la solicitud en este momento.
+ *
+ * <p>Se lanza cuando un recurso limitado, como la cola de cifrado de contraseñas, está saturado.</p>
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,60 @@
+package com.rest.api.exception.advice;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.presentation.dto.ErrorResponseDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Respuestas de error de un código de estado, serializadas una sola vez por mensaje.
+ *
+ * <p>Los mensajes de las excepciones son constantes del código, por lo que el conjunto es pequeño; cada cuerpo se
+ * serializa la primera vez y después se reutiliza el mismo arreglo inmutable. Si aparecen más mensajes distintos
+ * que el límite, los nuevos se serializan en cada respuesta sin guardarse.</p>
+ */
+final class ErrorBodyCache {
+    /**
+     * Número máximo de mensajes distintos guardados.
+     */
+    private static final int MAX_MESSAGES = 256;
+
+    private final HttpStatus status;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<String, byte[]> bodies = new ConcurrentHashMap<>();
+
+    ErrorBodyCache(HttpStatus status, ObjectMapper objectMapper) {
+        this.status = status;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Devuelve la respuesta de error con el mensaje indicado.
+     *
+     * @param message descripción del error.
+     * @return la respuesta con el cuerpo JSON ya serializado.
+     */
+    ResponseEntity<byte[]> response(String message) {
+        byte[] body = bodies.get(message);
+        if (body == null) {
+            body = serialize(message);
+            if (bodies.size() < MAX_MESSAGES) {
+                bodies.putIfAbsent(message, body);
+            }
+        }
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private byte[] serialize(String message) {
+        try {
+            return objectMapper.writeValueAsBytes(ErrorResponseDTO.of(status, message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta de error", e);
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.rest.api.exception.advice;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rest.api.exception.AlreadyExistsException;
+import com.rest.api.exception.ServiceUnavailableException;
 import com.rest.api.exception.UnauthorizedException;
+import com.rest.api.presentation.dto.ErrorResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -16,30 +24,72 @@ import java.util.Map;
  *
  * <p>Intercepta excepciones específicas lanzadas en los controladores y genera respuestas personalizadas
  * con códigos de estado HTTP adecuados y mensajes claros.</p>
+ *
+ * <p>Todas las respuestas tienen la forma de {@link ErrorResponseDTO}. Las de mensaje fijo se serializan una sola
+ * vez y se reutilizan, sin estado compartido mutable entre solicitudes; los errores de validación, que dependen de
+ * los campos recibidos, se serializan en cada respuesta.</p>
+ *
+ * <p>Cada error manejado se cuenta en {@code api.errors}, etiquetado por tipo.</p>
  */
 @RestControllerAdvice
 public class GlobalExcepcionHandler {
     /**
-     * Mapa para almacenar los detalles de los errores en las respuestas de las excepciones.
+     * Mensaje general de los errores de validación; el detalle va en {@code Errors}.
      */
-    private final Map<String, Object> errorMap = new HashMap<>();
+    private static final String VALIDATION_MESSAGE = "Datos inválidos";
+
+    private final ErrorBodyCache conflictBodies;
+    private final ErrorBodyCache unauthorizedBodies;
+    private final ErrorBodyCache forbiddenBodies;
+    private final ErrorBodyCache unavailableBodies;
+
+    private final Counter validationErrors;
+    private final Counter conflictErrors;
+    private final Counter unauthorizedErrors;
+    private final Counter forbiddenErrors;
+    private final Counter unavailableErrors;
+
+    /**
+     * Construye el manejador y registra sus contadores.
+     *
+     * @param meterRegistry registro donde se publican los contadores de errores.
+     * @param objectMapper serializador de las respuestas de mensaje fijo.
+     */
+    public GlobalExcepcionHandler(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.conflictBodies = new ErrorBodyCache(HttpStatus.CONFLICT, objectMapper);
+        this.unauthorizedBodies = new ErrorBodyCache(HttpStatus.UNAUTHORIZED, objectMapper);
+        this.forbiddenBodies = new ErrorBodyCache(HttpStatus.FORBIDDEN, objectMapper);
+        this.unavailableBodies = new ErrorBodyCache(HttpStatus.SERVICE_UNAVAILABLE, objectMapper);
+        this.validationErrors = counter(meterRegistry, "validation");
+        this.conflictErrors = counter(meterRegistry, "conflict");
+        this.unauthorizedErrors = counter(meterRegistry, "unauthorized");
+        this.forbiddenErrors = counter(meterRegistry, "forbidden");
+        this.unavailableErrors = counter(meterRegistry, "unavailable");
+    }
 
     /**
      * Maneja las excepciones de validación de argumentos no válidos.
      *
      * <p>Cuando un argumento de una solicitud no cumple con las restricciones de validación,
-     * se devuelve un mapa de errores que contiene los campos problemáticos y sus mensajes asociados.</p>
+     * se devuelve el primer mensaje de cada campo problemático en {@code Errors}.</p>
      *
      * @param exception la excepción lanzada por argumentos no válidos.
-     * @return una respuesta con un mapa de errores y el código de estado HTTP 409 (CONFLICT).
+     * @return una respuesta con los errores por campo y el código de estado HTTP 400 (BAD_REQUEST).
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, String>> handleInvalidArguments(MethodArgumentNotValidException exception) {
-        Map<String, String> errors = new HashMap<>();
-        exception.getBindingResult().getFieldErrors().forEach(fieldError -> {
-            errors.put(fieldError.getField(), fieldError.getDefaultMessage());
-        });
-        return new ResponseEntity<>(errors, HttpStatus.CONFLICT);
+    public ResponseEntity<ErrorResponseDTO> handleInvalidArguments(MethodArgumentNotValidException exception) {
+        return invalidArguments(exception.getBindingResult());
+    }
+    /**
+     * Maneja las excepciones de validación de la pila reactiva, con la misma respuesta que
+     * {@link #handleInvalidArguments(MethodArgumentNotValidException)}.
+     *
+     * @param exception la excepción lanzada por WebFlux por argumentos no válidos.
+     * @return una respuesta con los errores por campo y el código de estado HTTP 400 (BAD_REQUEST).
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidExchangeArguments(WebExchangeBindException exception) {
+        return invalidArguments(exception.getBindingResult());
     }
     /**
      * Maneja las excepciones de tipo `AlreadyExistsException`.
@@ -47,31 +97,66 @@ public class GlobalExcepcionHandler {
      * <p>Se devuelve un mensaje indicando que el recurso ya existe.</p>
      *
      * @param exception la excepción lanzada cuando un recurso ya existe.
-     * @return una respuesta con un mapa detallando el error y el código de estado HTTP 409 (CONFLICT).
+     * @return una respuesta con el error serializado y el código de estado HTTP 409 (CONFLICT).
      */
     @ExceptionHandler(AlreadyExistsException.class)
-    public ResponseEntity<Map<String, Object>> alreadyExistsException(AlreadyExistsException exception){
-        errorMap.put("Status", "Error");
-        errorMap.put("Message", exception.getMessage());
-        errorMap.put("Code", HttpStatus.CONFLICT);
-
-        return new ResponseEntity<>(errorMap, HttpStatus.CONFLICT);
+    public ResponseEntity<byte[]> alreadyExistsException(AlreadyExistsException exception){
+        conflictErrors.increment();
+        return conflictBodies.response(exception.getMessage());
     }
     /**
      * Maneja las excepciones de tipo `UnauthorizedException`.
      *
-     * <p>Se devuelve un mensaje indicando que el usuario no está autorizado para realizar la acción.</p>
+     * <p>Se devuelve un mensaje indicando que el usuario no está autorizado para realizar la acción. Es el error
+     * más frecuente (credenciales inválidas), por lo que solo reutiliza el cuerpo ya serializado.</p>
      *
      * @param exception la excepción lanzada cuando el usuario no está autorizado.
-     * @return una respuesta con un mapa detallando el error y el código de estado HTTP 401 (UNAUTHORIZED).
+     * @return una respuesta con el error serializado y el código de estado HTTP 401 (UNAUTHORIZED).
      */
     @ExceptionHandler(UnauthorizedException.class)
-    public ResponseEntity<Map<String, Object>> UnauthorizedException(UnauthorizedException exception){
-        errorMap.put("Status", "Error");
-        errorMap.put("Message", exception.getMessage());
-        errorMap.put("Code", HttpStatus.UNAUTHORIZED);
+    public ResponseEntity<byte[]> UnauthorizedException(UnauthorizedException exception){
+        unauthorizedErrors.increment();
+        return unauthorizedBodies.response(exception.getMessage());
+    }
+    /**
+     * Maneja las excepciones de tipo `AccessDeniedException`.
+     *
+     * <p>Se devuelve un mensaje indicando que el usuario autenticado no tiene el rol que exige la operación.</p>
+     *
+     * @param exception la excepción lanzada por la autorización a nivel de método.
+     * @return una respuesta con el error serializado y el código de estado HTTP 403 (FORBIDDEN).
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<byte[]> accessDeniedException(AccessDeniedException exception){
+        forbiddenErrors.increment();
+        return forbiddenBodies.response("Acceso denegado");
+    }
+    /**
+     * Maneja las excepciones de tipo `ServiceUnavailableException`.
+     *
+     * <p>Se devuelve un mensaje indicando que el servicio está saturado y que se debe reintentar más tarde.</p>
+     *
+     * @param exception la excepción lanzada cuando un recurso limitado está saturado.
+     * @return una respuesta con el error serializado y el código de estado HTTP 503 (SERVICE_UNAVAILABLE).
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<byte[]> serviceUnavailableException(ServiceUnavailableException exception){
+        unavailableErrors.increment();
+        return unavailableBodies.response(exception.getMessage());
+    }
 
-        return new ResponseEntity<>(errorMap, HttpStatus.UNAUTHORIZED);
+    private ResponseEntity<ErrorResponseDTO> invalidArguments(BindingResult bindingResult) {
+        validationErrors.increment();
+        Map<String, String> errors = new LinkedHashMap<>();
+        bindingResult.getFieldErrors().forEach(fieldError ->
+                errors.putIfAbsent(fieldError.getField(), fieldError.getDefaultMessage()));
+        return new ResponseEntity<>(new ErrorResponseDTO("Error", VALIDATION_MESSAGE, HttpStatus.BAD_REQUEST.name(), errors),
+                HttpStatus.BAD_REQUEST);
     }
 
+    private static Counter counter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("api.errors")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
 }
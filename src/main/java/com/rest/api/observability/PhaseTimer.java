@@ -0,0 +1,102 @@
+package com.rest.api.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide una fase del procesamiento de una solicitud: registra su duración en un {@link Timer} y la publica
+ * como un span hijo del span actual.
+ *
+ * <p>El timer y el nombre del span se crean una sola vez al construir el componente que mide la fase. Por
+ * solicitud solo se lee {@link System#nanoTime()} y se abre el span, sin construir cadenas ni buscar el timer
+ * en el registro. Los spans no muestreados no se registran.</p>
+ */
+public final class PhaseTimer {
+
+    private final Tracer tracer;
+    private final String spanName;
+    private final Timer timer;
+
+    private PhaseTimer(Tracer tracer, String spanName, Timer timer) {
+        this.tracer = tracer;
+        this.spanName = spanName;
+        this.timer = timer;
+    }
+
+    /**
+     * Registra el timer de una fase.
+     *
+     * @param meterRegistry registro donde se publica el timer.
+     * @param tracer trazador con el que se crean los spans.
+     * @param metricName nombre del timer.
+     * @param spanName nombre de los spans de la fase.
+     * @param tags pares clave-valor de etiquetas fijas del timer.
+     * @return la fase lista para medirse.
+     */
+    public static PhaseTimer of(MeterRegistry meterRegistry, Tracer tracer, String metricName, String spanName,
+                                String... tags) {
+        return new PhaseTimer(tracer, spanName, Timer.builder(metricName)
+                .tags(tags)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Inicia la fase como hija del span actual del hilo.
+     *
+     * @return la fase iniciada, se debe cerrar al terminar.
+     */
+    public Phase start() {
+        return open(tracer.nextSpan());
+    }
+
+    /**
+     * Inicia la fase como hija de un span recibido de otro hilo.
+     *
+     * @param parent el span padre, o null para iniciar una traza nueva.
+     * @return la fase iniciada, se debe cerrar al terminar.
+     */
+    public Phase start(Span parent) {
+        return open(parent != null ? tracer.nextSpan(parent) : tracer.nextSpan());
+    }
+
+    private Phase open(Span span) {
+        span.name(spanName).start();
+        return new Phase(span, tracer.withSpan(span), System.nanoTime());
+    }
+
+    /**
+     * Fase en curso; al cerrarla se registra su duración y se termina el span.
+     */
+    public final class Phase implements AutoCloseable {
+
+        private final Span span;
+        private final Tracer.SpanInScope scope;
+        private final long startedAt;
+
+        private Phase(Span span, Tracer.SpanInScope scope, long startedAt) {
+            this.span = span;
+            this.scope = scope;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Marca el span de la fase como fallido.
+         *
+         * @param error la excepción que interrumpió la fase.
+         */
+        public void error(Throwable error) {
+            span.error(error);
+        }
+
+        @Override
+        public void close() {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            scope.close();
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.rest.api.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Entidad que representa un token de actualización emitido a un usuario.
+ *
+ * <p>Solo se guarda el resumen SHA-256 del token, nunca el token en claro. Los tokens obtenidos
+ * al rotar comparten la familia del token original, lo que permite revocarlos juntos.</p>
+ */
+@Entity
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "refresh_token", indexes = @Index(name = "idx_refresh_token_family", columnList = "family_id"))
+public class RefreshTokenEntity {
+    /**
+     * Identificador único del token.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    /**
+     * Resumen SHA-256 del token
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+    /**
+     * Familia de rotación a la que pertenece el token
+     */
+    @Column(name = "family_id", nullable = false)
+    private long familyId;
+    /**
+     * Nombre de usuario al que pertenece el token
+     */
+    @Column(nullable = false)
+    private String username;
+    /**
+     * Instante de expiración del token
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+    /**
+     * Indica si el token ya se usó para obtener uno nuevo
+     */
+    @Column(nullable = false)
+    private boolean used;
+}
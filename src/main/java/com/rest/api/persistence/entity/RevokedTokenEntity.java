@@ -0,0 +1,40 @@
+package com.rest.api.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Entidad que representa un token de acceso revocado antes de su expiración.
+ *
+ * <p>El identificador es incremental para que cada instancia lea solo las revocaciones nuevas.</p>
+ */
+@Entity
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "revoked_token")
+public class RevokedTokenEntity {
+    /**
+     * Identificador incremental de la revocación.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    /**
+     * Identificador del token revocado (claim jti)
+     */
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+    /**
+     * Instante de expiración del token revocado, después del cual la revocación se puede descartar
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,100 @@
+package com.rest.api.persistence.entity;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roles de los usuarios.
+ *
+ * <p>Los roles de un usuario se guardan como una máscara de bits en la columna {@code roles} y en el claim
+ * {@code roles} del token, por lo que el bit de cada rol no debe cambiar. Las autoridades de cada combinación de roles
+ * se crean una sola vez; reconstruir la autenticación a partir del token no crea autoridades ni consulta la base de
+ * datos.</p>
+ */
+public enum Role {
+    /**
+     * Usuario registrado, lo tienen todos los usuarios.
+     */
+    USER(0),
+    /**
+     * Administrador, puede importar usuarios.
+     */
+    ADMIN(1);
+
+    /**
+     * Autoridades de cada máscara de roles, indexadas por la máscara.
+     */
+    private static final List<List<GrantedAuthority>> AUTHORITIES;
+
+    static {
+        int combinations = 1;
+        for (Role role : values()) {
+            combinations = Math.max(combinations, role.mask << 1);
+        }
+        List<List<GrantedAuthority>> authorities = new ArrayList<>(combinations);
+        for (int mask = 0; mask < combinations; mask++) {
+            List<GrantedAuthority> granted = new ArrayList<>();
+            for (Role role : values()) {
+                if ((mask & role.mask) != 0) {
+                    granted.add(role.authority);
+                }
+            }
+            authorities.add(List.copyOf(granted));
+        }
+        AUTHORITIES = List.copyOf(authorities);
+    }
+
+    private final int mask;
+    private final GrantedAuthority authority;
+
+    Role(int bit) {
+        this.mask = 1 << bit;
+        this.authority = new SimpleGrantedAuthority("ROLE_" + name());
+    }
+
+    /**
+     * Devuelve el bit del rol dentro de la máscara.
+     *
+     * @return la máscara con solo este rol.
+     */
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Indica si una máscara incluye este rol.
+     *
+     * @param roles la máscara de roles.
+     * @return true si la máscara incluye el rol.
+     */
+    public boolean in(int roles) {
+        return (roles & mask) != 0;
+    }
+
+    /**
+     * Calcula la máscara de un conjunto de roles.
+     *
+     * @param roles los roles.
+     * @return la máscara.
+     */
+    public static int maskOf(Role... roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.mask;
+        }
+        return mask;
+    }
+
+    /**
+     * Devuelve las autoridades de una máscara de roles; los bits que no corresponden a ningún rol se ignoran.
+     *
+     * @param roles la máscara de roles.
+     * @return la lista inmutable y compartida de autoridades.
+     */
+    public static List<GrantedAuthority> authorities(int roles) {
+        return AUTHORITIES.get(roles & (AUTHORITIES.size() - 1));
+    }
+}
@@ -1,5 +1,6 @@
 package com.rest.api.persistence.entity;
 
+import com.rest.api.persistence.listener.UserEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -8,6 +9,9 @@ import lombok.Setter;
 
 /**
  * Entidad que representa un usuario en el sistema.
+ *
+ * <p>El índice {@code idx_user_credentials} cubre la consulta de credenciales y roles: el motor responde con el
+ * índice sin leer la fila. La existencia se resuelve con el índice único de {@code username}.</p>
  */
 @Entity
 
@@ -15,7 +19,9 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "user")
+@Table(name = "user",
+        indexes = @Index(name = "idx_user_credentials", columnList = "username, password, roles"))
+@EntityListeners(UserEntityListener.class)
 public class UserEntity {
     /**
      * Identificador único del usuario.
@@ -32,4 +38,20 @@ public class UserEntity {
      * Contraseña del usuario
      */
     private String password;
+    /**
+     * Roles del usuario como máscara de bits de {@link Role}.
+     */
+    @Column(nullable = false)
+    private int roles;
+
+    /**
+     * Crea un usuario con el rol {@link Role#USER}.
+     *
+     * @param id identificador, null para un usuario nuevo.
+     * @param username nombre de usuario.
+     * @param password contraseña cifrada.
+     */
+    public UserEntity(Long id, String username, String password) {
+        this(id, username, password, Role.USER.mask());
+    }
 }
@@ -0,0 +1,38 @@
+package com.rest.api.persistence.listener;
+
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.security.principal.PrincipalResolver;
+import com.rest.api.security.principal.ReactivePrincipalResolver;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA de {@link UserEntity} que invalida la caché de usuarios cuando un usuario cambia o se elimina.
+ *
+ * <p>Solo existe el resolvedor de la pila activa: {@link PrincipalResolver} en la servlet y
+ * {@link ReactivePrincipalResolver} en la reactiva, donde los usuarios también se modifican con JPA.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+    /**
+     * Resolvedores de usuarios, se obtienen de forma diferida para no depender del repositorio al crear el listener.
+     */
+    private final ObjectProvider<PrincipalResolver> principalResolver;
+    private final ObjectProvider<ReactivePrincipalResolver> reactivePrincipalResolver;
+
+    /**
+     * Invalida el usuario en caché después de actualizarlo o eliminarlo.
+     *
+     * @param userEntity el usuario modificado.
+     */
+    @PostUpdate
+    @PostRemove
+    public void invalidate(UserEntity userEntity) {
+        principalResolver.ifAvailable(resolver -> resolver.invalidate(userEntity.getUsername()));
+        reactivePrincipalResolver.ifAvailable(resolver -> resolver.invalidate(userEntity.getUsername()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.rest.api.persistence.migration;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Migración 2: columna de roles e índice que cubre la consulta de credenciales del inicio de sesión (nombre de
+ * usuario, hash y roles).
+ *
+ * <p>La columna y el índice final se agregan en una sola sentencia {@code alter table}, para que una tabla grande se
+ * indexe una sola vez en la actualización; las bases creadas por Hibernate con el índice anterior
+ * ({@code idx_user_username_password}) lo pierden en la misma sentencia. MySQL no admite
+ * {@code create index if not exists}, por eso la migración consulta los metadatos y solo aplica los cambios que
+ * faltan. Spring Boot entrega a Flyway las migraciones Java declaradas como beans, también en la imagen nativa.</p>
+ */
+@Component
+public class UserCredentialsIndexMigration implements JavaMigration {
+
+    private static final String INDEX_NAME = "idx_user_credentials";
+    private static final String PREVIOUS_INDEX_NAME = "idx_user_username_password";
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("2");
+    }
+
+    @Override
+    public String getDescription() {
+        return "user credentials index";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        DatabaseMetaData metaData = connection.getMetaData();
+        List<String> changes = new ArrayList<>(3);
+        // Los usuarios existentes y los insertados sin roles quedan con USER (máscara 1)
+        if (!columnExists(metaData, connection, "roles")) {
+            changes.add("add column roles int not null default 1");
+        }
+        if (!indexExists(metaData, connection, INDEX_NAME)) {
+            changes.add("add index " + INDEX_NAME + " (username, password, roles)");
+        }
+        if (indexExists(metaData, connection, PREVIOUS_INDEX_NAME)) {
+            changes.add("drop index " + PREVIOUS_INDEX_NAME);
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            if (metaData.getDatabaseProductName().startsWith("MySQL")) {
+                statement.execute("alter table user " + String.join(", ", changes));
+            } else {
+                // H2, usado en las pruebas, no admite varias operaciones en un alter table
+                for (String change : changes) {
+                    statement.execute("alter table user " + change);
+                }
+            }
+        }
+    }
+
+    private static boolean columnExists(DatabaseMetaData metaData, Connection connection, String column)
+            throws SQLException {
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), "user", column)) {
+            return columns.next();
+        }
+    }
+
+    private static boolean indexExists(DatabaseMetaData metaData, Connection connection, String index)
+            throws SQLException {
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), "user", false,
+                true)) {
+            while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
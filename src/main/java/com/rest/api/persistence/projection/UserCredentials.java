@@ -0,0 +1,20 @@
+package com.rest.api.persistence.projection;
+
+/**
+ * Proyección de solo lectura con el nombre de usuario, el hash de la contraseña y los roles, para verificar
+ * credenciales y emitir el token sin cargar la entidad completa en el contexto de persistencia.
+ *
+ * @param username nombre de usuario.
+ * @param password hash de la contraseña.
+ * @param roles roles del usuario como máscara de bits de {@link com.rest.api.persistence.entity.Role}.
+ */
+public record UserCredentials(String username, String password, int roles) {
+
+    /**
+     * Omite el hash de la contraseña para que no aparezca en los logs.
+     */
+    @Override
+    public String toString() {
+        return "UserCredentials[username=" + username + ", roles=" + roles + "]";
+    }
+}
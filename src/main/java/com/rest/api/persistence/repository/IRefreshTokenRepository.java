@@ -0,0 +1,53 @@
+package com.rest.api.persistence.repository;
+
+import com.rest.api.persistence.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repositorio para realizar operaciones sobre la entidad RefreshToken.
+ */
+public interface IRefreshTokenRepository extends CrudRepository<RefreshTokenEntity, Long> {
+    /**
+     * Encuentra un token por su resumen.
+     *
+     * @param tokenHash resumen SHA-256 del token.
+     * @return el token si existe.
+     */
+    Optional<RefreshTokenEntity> findByTokenHash(byte[] tokenHash);
+
+    /**
+     * Marca un token como usado solo si aún no lo estaba.
+     *
+     * @param id identificador del token.
+     * @return 1 si el token se marcó, 0 si ya estaba usado.
+     */
+    @Modifying
+    @Query("update RefreshTokenEntity t set t.used = true where t.id = :id and t.used = false")
+    int markUsed(@Param("id") Long id);
+
+    /**
+     * Elimina todos los tokens de una familia de rotación.
+     *
+     * @param familyId familia de rotación.
+     * @return número de tokens eliminados.
+     */
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.familyId = :familyId")
+    int deleteByFamily(@Param("familyId") long familyId);
+
+    /**
+     * Elimina los tokens expirados.
+     *
+     * @param now instante actual.
+     * @return número de tokens eliminados.
+     */
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,36 @@
+package com.rest.api.persistence.repository;
+
+import com.rest.api.persistence.entity.RevokedTokenEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repositorio para realizar operaciones sobre la entidad RevokedToken.
+ */
+public interface IRevokedTokenRepository extends CrudRepository<RevokedTokenEntity, Long> {
+    /**
+     * Encuentra las revocaciones vigentes registradas después de una revocación dada, en orden.
+     *
+     * @param id identificador de la última revocación leída.
+     * @param now instante actual; se omiten las revocaciones de tokens ya expirados.
+     * @param limit número máximo de revocaciones a devolver.
+     * @return las revocaciones nuevas.
+     */
+    List<RevokedTokenEntity> findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(Long id, Instant now, Limit limit);
+
+    /**
+     * Elimina las revocaciones de tokens que ya expiraron.
+     *
+     * @param now instante actual.
+     * @return número de revocaciones eliminadas.
+     */
+    @Modifying
+    @Query("delete from RevokedTokenEntity t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,11 +1,22 @@
 package com.rest.api.persistence.repository;
 
 import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.projection.UserCredentials;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 /**
  * Repositorio para realizar operaciones CRUD sobre la entidad User.
+ *
+ * <p>Las consultas por nombre de usuario se ejecutan en transacciones de solo lectura, sin verificación de cambios,
+ * para que con réplicas configuradas vayan a una réplica. {@link #existsByUsername},
+ * {@link #findCredentialsByUsername} y {@link #findRolesByUsername} no cargan entidades y se resuelven solo con los
+ * índices de {@code username}; se declaran en JPQL porque Hibernate guarda el plan de esas consultas, mientras que
+ * las derivadas del nombre del método se construyen con la API Criteria y se vuelven a traducir en cada llamada.</p>
  */
 public interface IUserRepository extends CrudRepository<UserEntity, Long> {
     /**
@@ -14,5 +25,54 @@ public interface IUserRepository extends CrudRepository<UserEntity, Long> {
      * @param username Nombre de usuario.
      * @return Nombre de usuario.
      */
+    @Transactional(readOnly = true)
     Optional<UserEntity> findByUsername(String username);
+
+    /**
+     * Indica si existe un usuario con el nombre de usuario dado.
+     *
+     * @param username nombre de usuario.
+     * @return true si el usuario existe.
+     */
+    @Transactional(readOnly = true)
+    @Query("select case when count(u) > 0 then true else false end from UserEntity u where u.username = :username")
+    boolean existsByUsername(@Param("username") String username);
+
+    /**
+     * Obtiene el nombre de usuario, el hash de la contraseña y los roles, sin cargar la entidad.
+     *
+     * @param username nombre de usuario.
+     * @return las credenciales almacenadas, o vacío si el usuario no existe.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.rest.api.persistence.projection.UserCredentials(u.username, u.password, u.roles) "
+            + "from UserEntity u where u.username = :username")
+    Optional<UserCredentials> findCredentialsByUsername(@Param("username") String username);
+
+    /**
+     * Obtiene los roles de un usuario, sin cargar la entidad.
+     *
+     * @param username nombre de usuario.
+     * @return la máscara de roles, o vacío si el usuario no existe.
+     */
+    @Transactional(readOnly = true)
+    @Query("select u.roles from UserEntity u where u.username = :username")
+    Optional<Integer> findRolesByUsername(@Param("username") String username);
+
+    /**
+     * Reemplaza el hash de la contraseña de un usuario.
+     *
+     * <p>Es una actualización masiva de JPQL: no carga la entidad, por lo que no ejecuta {@code @PostUpdate} de
+     * {@link com.rest.api.persistence.listener.UserEntityListener} y no invalida la caché de usuarios. Sirve para el
+     * cambio de hash al iniciar sesión porque la caché solo guarda la existencia del usuario; un cambio que deba
+     * reflejarse en la autenticación se hace con {@link #save} o invalidando la caché explícitamente.</p>
+     *
+     * @param username nombre de usuario.
+     * @param password hash nuevo de la contraseña.
+     * @return número de usuarios actualizados.
+     */
+    @Transactional
+    @Modifying
+    @Query("update UserEntity u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
 }
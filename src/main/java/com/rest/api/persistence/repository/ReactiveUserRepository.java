@@ -0,0 +1,81 @@
+package com.rest.api.persistence.repository;
+
+import com.rest.api.persistence.projection.UserCredentials;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio no bloqueante de usuarios (R2DBC) para la pila reactiva.
+ *
+ * <p>Tiene las mismas consultas que {@link IUserRepository} usa en el registro, el inicio de sesión y la resolución
+ * del usuario autenticado, escritas en SQL sobre la tabla {@code user} de las migraciones. Los errores de la base
+ * se traducen a la jerarquía {@code DataAccessException} de Spring, igual que en JPA.</p>
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Busca el nombre de usuario, el hash de la contraseña y los roles, sin cargar el resto del usuario.
+     *
+     * @param username el nombre de usuario.
+     * @return las credenciales, o vacío si el usuario no existe.
+     */
+    public Mono<UserCredentials> findCredentialsByUsername(String username) {
+        return databaseClient.sql("select username, password, roles from user where username = :username")
+                .bind("username", username)
+                .map(row -> new UserCredentials(row.get(0, String.class), row.get(1, String.class),
+                        row.get(2, Integer.class)))
+                .one();
+    }
+
+    /**
+     * Indica si existe un usuario con el nombre dado.
+     *
+     * @param username el nombre de usuario.
+     * @return true si el usuario existe.
+     */
+    public Mono<Boolean> existsByUsername(String username) {
+        return databaseClient.sql("select 1 from user where username = :username limit 1")
+                .bind("username", username)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Inserta un usuario con el rol por defecto de la columna, {@code USER}.
+     *
+     * @param username el nombre de usuario.
+     * @param password la contraseña cifrada.
+     * @return vacío al terminar; falla con {@code DuplicateKeyException} si el nombre ya existe.
+     */
+    public Mono<Void> insert(String username, String password) {
+        return databaseClient.sql("insert into user (username, password) values (:username, :password)")
+                .bind("username", username)
+                .bind("password", password)
+                .then();
+    }
+
+    /**
+     * Reemplaza el hash de la contraseña de un usuario. Como la actualización JPQL de {@link IUserRepository}, no
+     * invalida la caché de usuarios.
+     *
+     * @param username el nombre de usuario.
+     * @param password la contraseña cifrada nueva.
+     * @return el número de filas actualizadas.
+     */
+    public Mono<Long> updatePassword(String username, String password) {
+        return databaseClient.sql("update user set password = :password where username = :username")
+                .bind("password", password)
+                .bind("username", username)
+                .fetch()
+                .rowsUpdated();
+    }
+}
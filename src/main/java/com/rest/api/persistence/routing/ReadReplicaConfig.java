@@ -0,0 +1,133 @@
+package com.rest.api.persistence.routing;
+
+import com.rest.api.persistence.repository.IUserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuración de las réplicas de lectura, activa solo si {@code persistence.replicas.urls} tiene valor.
+ *
+ * <p>Reemplaza la fuente de datos de Spring Boot por un {@link LazyConnectionDataSourceProxy} sobre
+ * {@link ReplicaRoutingDataSource}: las consultas de los repositorios, que Spring Data ejecuta en transacciones de
+ * solo lectura, van a las réplicas y los guardados al primario, sin cambios en los servicios. Las réplicas usan
+ * las credenciales y el tamaño de pool del primario ({@code spring.datasource.*}).</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("!'${persistence.replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    /**
+     * Pool del primario, configurado con {@code spring.datasource.hikari.*} como el de Spring Boot.
+     *
+     * @param properties propiedades {@code spring.datasource.*}.
+     * @return el pool del primario.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Fuente de datos que reparte las conexiones entre el primario y las réplicas.
+     *
+     * @param primaryDataSource pool del primario.
+     * @param properties propiedades {@code spring.datasource.*}, de donde se toman las credenciales.
+     * @param urls URLs JDBC de las réplicas.
+     * @param healthCheckIntervalMillis milisegundos entre validaciones de las réplicas.
+     * @return la fuente de datos enrutada.
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${persistence.replicas.urls}") List<String> urls,
+            @Value("${persistence.replicas.health-check-interval-ms:5000}") long healthCheckIntervalMillis) {
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setReadOnly(true);
+            if (primaryDataSource.getMaximumPoolSize() > 0) {
+                replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            }
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            // La validación de Hikari al entregar una conexión no debe esperar más que la del chequeo de salud
+            replica.setValidationTimeout(
+                    TimeUnit.SECONDS.toMillis(ReplicaRoutingDataSource.VALIDATION_TIMEOUT_SECONDS));
+            replicas.add(replica);
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas);
+        routingDataSource.startHealthChecks(healthCheckIntervalMillis);
+        return routingDataSource;
+    }
+
+    /**
+     * Fuente de datos de la aplicación: obtiene la conexión real con la primera sentencia, cuando ya se sabe si la
+     * transacción es de solo lectura.
+     *
+     * @param replicaRoutingDataSource fuente de datos enrutada.
+     * @return la fuente de datos que usan JPA y JDBC.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Registro de escrituras recientes para leer del primario después del registro.
+     *
+     * @param windowMs ventana en milisegundos, 0 para desactivarla.
+     * @param maximumSize número máximo de usuarios registrados a la vez.
+     * @return el registro de escrituras.
+     */
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${persistence.read-your-writes.window-ms:5000}") long windowMs,
+                                         @Value("${persistence.read-your-writes.maximum-size:100000}") long maximumSize) {
+        return new ReadYourWrites(Duration.ofMillis(windowMs), maximumSize);
+    }
+
+    /**
+     * Agrega {@link ReadYourWritesInterceptor} al repositorio de usuarios, por fuera de su interceptor de transacciones.
+     *
+     * @param readYourWrites registro de escrituras, se resuelve al crear el repositorio.
+     * @return el postprocesador de la fábrica del repositorio.
+     */
+    @Bean
+    public static BeanPostProcessor readYourWritesRepositoryPostProcessor(ObjectProvider<ReadYourWrites> readYourWrites) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean
+                        && IUserRepository.class.equals(factoryBean.getObjectType())) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0,
+                                    new ReadYourWritesInterceptor(readYourWrites.getObject()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.rest.api.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Registra los usuarios escritos recientemente para que sus lecturas vayan al primario durante una ventana.
+ *
+ * <p>Evita que un inicio de sesión justo después del registro consulte una réplica que todavía no recibió
+ * el usuario. La ventana debe cubrir el retraso de replicación esperado; el registro es local a la instancia.</p>
+ */
+public class ReadYourWrites {
+    /**
+     * Marca del hilo actual para leer del primario, consultada por {@link ReplicaRoutingDataSource}.
+     */
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    /**
+     * Usuarios escritos dentro de la ventana, null si la ventana es 0.
+     */
+    private final Cache<String, Boolean> recentWrites;
+
+    /**
+     * Construye el registro.
+     *
+     * @param window tiempo durante el cual las lecturas de un usuario escrito van al primario, 0 para desactivarlo.
+     * @param maximumSize número máximo de usuarios registrados a la vez.
+     */
+    public ReadYourWrites(Duration window, long maximumSize) {
+        this.recentWrites = window.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * Registra una escritura confirmada de un usuario.
+     *
+     * @param username el nombre de usuario escrito.
+     */
+    public void recordWrite(String username) {
+        if (recentWrites != null && username != null) {
+            recentWrites.put(username, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Indica si un usuario se escribió dentro de la ventana.
+     *
+     * @param username el nombre de usuario consultado.
+     * @return true si sus lecturas deben ir al primario.
+     */
+    public boolean isRecent(String username) {
+        return recentWrites != null && username != null && recentWrites.getIfPresent(username) != null;
+    }
+
+    /**
+     * Marca el hilo actual para leer del primario.
+     *
+     * @return true si el hilo no estaba marcado y se debe llamar a {@link #releasePrimary()} al terminar.
+     */
+    static boolean requirePrimary() {
+        if (PRIMARY_REQUIRED.get() != null) {
+            return false;
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Quita la marca del hilo actual.
+     */
+    static void releasePrimary() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * Indica si el hilo actual debe leer del primario.
+     *
+     * @return true si el hilo está marcado con {@link #requirePrimary()}.
+     */
+    static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
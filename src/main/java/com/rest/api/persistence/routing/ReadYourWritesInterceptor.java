@@ -0,0 +1,53 @@
+package com.rest.api.persistence.routing;
+
+import com.rest.api.persistence.entity.UserEntity;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Interceptor del repositorio de usuarios que aplica {@link ReadYourWrites}.
+ *
+ * <p>Registra los usuarios guardados con {@code save}/{@code saveAll} y envía al primario las consultas cuyo único
+ * argumento es un nombre de usuario escrito recientemente. Se ubica por fuera del interceptor de transacciones,
+ * por lo que la marca ya está puesta cuando la transacción pide la conexión y el guardado ya está confirmado
+ * cuando se registra.</p>
+ */
+class ReadYourWritesInterceptor implements MethodInterceptor {
+
+    private final ReadYourWrites readYourWrites;
+
+    ReadYourWritesInterceptor(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        if (invocation.getMethod().getName().startsWith("save")) {
+            Object result = invocation.proceed();
+            if (arguments.length == 1) {
+                record(arguments[0]);
+            }
+            return result;
+        }
+        if (arguments.length == 1 && arguments[0] instanceof String username && readYourWrites.isRecent(username)
+                && ReadYourWrites.requirePrimary()) {
+            try {
+                return invocation.proceed();
+            } finally {
+                ReadYourWrites.releasePrimary();
+            }
+        }
+        return invocation.proceed();
+    }
+
+    private void record(Object argument) {
+        if (argument instanceof UserEntity user) {
+            readYourWrites.recordWrite(user.getUsername());
+        } else if (argument instanceof Iterable<?> users) {
+            for (Object user : users) {
+                record(user);
+            }
+        }
+    }
+}
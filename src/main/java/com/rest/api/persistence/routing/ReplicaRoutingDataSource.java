@@ -0,0 +1,195 @@
+package com.rest.api.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fuente de datos que envía las transacciones de solo lectura a las réplicas y el resto al primario.
+ *
+ * <p>Las réplicas se eligen en turno rotativo, omitiendo las marcadas como no disponibles; si ninguna está
+ * disponible, o el hilo actual debe leer sus propias escrituras ({@link ReadYourWrites}), se usa el primario.
+ * Una réplica que falla al entregar una conexión se marca como no disponible y la consulta pasa al primario;
+ * {@link #checkHealth()} la vuelve a habilitar cuando responde.</p>
+ *
+ * <p>La validación corre en un hilo propio ({@link #startHealthChecks(long)}) y no en el planificador compartido
+ * de Spring: con una réplica caída, obtener la conexión espera el tiempo de conexión del pool y retrasaría el
+ * sondeo de revocaciones y las limpiezas.</p>
+ *
+ * <p>Debe envolverse en un {@code LazyConnectionDataSourceProxy}: la marca de solo lectura de la transacción se
+ * establece después de pedir la conexión, por lo que la conexión real se debe obtener con la primera sentencia.</p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    /**
+     * Clave del primario; las réplicas usan su posición en la lista.
+     */
+    private static final Integer PRIMARY = -1;
+
+    /**
+     * Segundos de espera de la validación de cada réplica.
+     */
+    static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+
+    /**
+     * Estado de cada réplica: 1 disponible, 0 no disponible.
+     */
+    private final AtomicIntegerArray healthy;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Hilo de validación de las réplicas, null hasta {@link #startHealthChecks(long)}.
+     */
+    private ScheduledExecutorService healthCheckExecutor;
+
+    /**
+     * Construye la fuente de datos; todas las réplicas empiezan disponibles.
+     *
+     * @param primary fuente de datos del primario, recibe las escrituras.
+     * @param replicas fuentes de datos de las réplicas, reciben las lecturas.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+            healthy.set(i, 1);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        int size = replicas.size();
+        if (size == 0 || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWrites.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int replica = (start + i) % size;
+            if (healthy.get(replica) == 1) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        int replica = (Integer) key;
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException exception) {
+            markUnavailable(replica, exception);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection(username, password);
+        }
+        int replica = (Integer) key;
+        try {
+            return replicas.get(replica).getConnection(username, password);
+        } catch (SQLException exception) {
+            markUnavailable(replica, exception);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Inicia la validación periódica de las réplicas en un hilo propio.
+     *
+     * @param intervalMillis milisegundos entre el fin de una validación y el inicio de la siguiente.
+     */
+    public synchronized void startHealthChecks(long intervalMillis) {
+        if (healthCheckExecutor == null && !replicas.isEmpty()) {
+            healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new CustomizableThreadFactory("replica-health-"));
+            healthCheckExecutor.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Valida cada réplica y actualiza su disponibilidad.
+     */
+    public void checkHealth() {
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            try (Connection connection = replicas.get(replica).getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUnavailable(replica, null);
+                } else if (healthy.getAndSet(replica, 1) == 0) {
+                    log.info("Réplica {} disponible de nuevo", replica);
+                }
+            } catch (SQLException exception) {
+                markUnavailable(replica, exception);
+            }
+        }
+    }
+
+    /**
+     * Indica si una réplica está disponible para recibir lecturas.
+     *
+     * @param replica posición de la réplica en la lista.
+     * @return true si la réplica está disponible.
+     */
+    public boolean isAvailable(int replica) {
+        return healthy.get(replica) == 1;
+    }
+
+    /**
+     * Cierra los pools de las réplicas al cerrar la aplicación; el del primario lo cierra el contenedor.
+     *
+     * @throws Exception si un pool no se puede cerrar.
+     */
+    public void close() throws Exception {
+        synchronized (this) {
+            if (healthCheckExecutor != null) {
+                healthCheckExecutor.shutdownNow();
+            }
+        }
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void markUnavailable(int replica, SQLException exception) {
+        if (healthy.getAndSet(replica, 0) == 1) {
+            log.warn("Réplica {} no disponible, las lecturas pasan al primario", replica, exception);
+        }
+    }
+}
@@ -1,21 +1,35 @@
 package com.rest.api.presentation.controller;
 
+import com.rest.api.exception.UnauthorizedException;
+import com.rest.api.presentation.dto.RefreshTokenDTO;
 import com.rest.api.presentation.dto.TokenResponseDTO;
 import com.rest.api.presentation.dto.UserDTO;
 import com.rest.api.service.AuthService;
+import com.rest.api.service.RefreshTokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Controlador de autenticación que gestiona el registro y el inicio de sesión de usuarios.
+ *
+ * <p>Los endpoints son asíncronos: el hilo de la solicitud se libera mientras la contraseña se cifra
+ * o se verifica en el pool de cifrado.</p>
+ *
+ * <p>En la pila reactiva las mismas rutas las atiende {@link ReactiveAuthController}.</p>
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 public class AuthController {
@@ -23,17 +37,21 @@ public class AuthController {
      * Servicio de autenticación que contiene la lógica de negocio para el registro y el inicio de sesión.
      */
     private final AuthService authService;
+    /**
+     * Servicio que rota los tokens de actualización.
+     */
+    private final RefreshTokenService refreshTokenService;
     /**
      * Endpoint para el inicio de sesión de usuarios.
      *
-     * <p>Recibe las credenciales del usuario y devuelve un token JWT si las credenciales son válidas.</p>
+     * <p>Recibe las credenciales del usuario y devuelve un token JWT y un token de actualización si las credenciales son válidas.</p>
      *
      * @param userDTO objeto que contiene las credenciales del usuario (nombre de usuario y contraseña).
      * @return una respuesta con un token JWT en el cuerpo de la respuesta y un código de estado HTTP 200.
      */
     @PostMapping("/log-in")
-    public ResponseEntity<TokenResponseDTO> login(@RequestBody @Valid UserDTO userDTO){
-        return new ResponseEntity<>(authService.login(userDTO), HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<TokenResponseDTO>> login(@RequestBody @Valid UserDTO userDTO){
+        return authService.login(userDTO).thenApply(token -> new ResponseEntity<>(token, HttpStatus.OK));
     }
 
     /**
@@ -46,7 +64,42 @@ public class AuthController {
      * @return una respuesta con un mensaje de confirmación en el cuerpo de la respuesta y un código de estado HTTP 200.
      */
     @PostMapping("/sign-up")
-    public ResponseEntity<String> register(@RequestBody @Valid  UserDTO userDTO){
-       return new ResponseEntity<>(authService.register(userDTO), HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<String>> register(@RequestBody @Valid  UserDTO userDTO){
+       return authService.register(userDTO).thenApply(message -> new ResponseEntity<>(message, HttpStatus.OK));
+    }
+
+    /**
+     * Endpoint para obtener un nuevo token JWT sin volver a enviar las credenciales.
+     *
+     * <p>Recibe un token de actualización vigente y devuelve un token JWT nuevo junto con el token de actualización
+     * que lo reemplaza; el token presentado deja de ser válido.</p>
+     *
+     * @param refreshTokenDTO objeto que contiene el token de actualización.
+     * @return una respuesta con los nuevos tokens en el cuerpo de la respuesta y un código de estado HTTP 200.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDTO> refresh(@RequestBody @Valid RefreshTokenDTO refreshTokenDTO){
+        return new ResponseEntity<>(refreshTokenService.refresh(refreshTokenDTO.getRefreshToken()), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint para cerrar la sesión.
+     *
+     * <p>Revoca el token JWT enviado en el encabezado de autorización y, si se envía, el token de actualización,
+     * de modo que ninguno de los dos se pueda volver a usar aunque no hayan expirado.</p>
+     *
+     * @param authorization encabezado de autorización con el token JWT.
+     * @param refreshTokenDTO objeto opcional que contiene el token de actualización.
+     * @return una respuesta con un mensaje de confirmación y un código de estado HTTP 200.
+     */
+    @PostMapping("/log-out")
+    public ResponseEntity<String> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                         @RequestBody(required = false) @Valid RefreshTokenDTO refreshTokenDTO){
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new UnauthorizedException("Token inválido");
+        }
+        authService.logout(authorization.substring(7),
+                refreshTokenDTO != null ? refreshTokenDTO.getRefreshToken() : null);
+        return new ResponseEntity<>("Sesión cerrada", HttpStatus.OK);
     }
 }
@@ -0,0 +1,50 @@
+package com.rest.api.presentation.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.security.utils.JwtUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Controlador que publica las claves públicas de verificación de los tokens (JWKS, RFC 7517).
+ *
+ * <p>Las claves solo cambian al reiniciar con otra configuración, por lo que el documento se serializa
+ * una vez y se permite guardarlo en caché.</p>
+ */
+@RestController
+public class JwksController {
+    /**
+     * Documento JWKS serializado.
+     */
+    private final byte[] jwks;
+
+    /**
+     * Construye el controlador serializando las claves públicas actuales.
+     *
+     * @param jwtUtils utilidad que contiene las claves públicas.
+     * @param objectMapper serializador del documento.
+     * @throws JsonProcessingException si el documento no se puede serializar.
+     */
+    public JwksController(JwtUtils jwtUtils, ObjectMapper objectMapper) throws JsonProcessingException {
+        this.jwks = objectMapper.writeValueAsBytes(Map.of("keys", jwtUtils.jwks()));
+    }
+
+    /**
+     * Devuelve las claves públicas con las que se verifican los tokens.
+     *
+     * @return el documento JWKS y un código de estado HTTP 200.
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwks);
+    }
+}
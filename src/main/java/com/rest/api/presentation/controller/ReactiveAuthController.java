@@ -0,0 +1,100 @@
+package com.rest.api.presentation.controller;
+
+import com.rest.api.exception.UnauthorizedException;
+import com.rest.api.presentation.dto.RefreshTokenDTO;
+import com.rest.api.presentation.dto.TokenResponseDTO;
+import com.rest.api.presentation.dto.UserDTO;
+import com.rest.api.service.AuthService;
+import com.rest.api.service.ReactiveAuthService;
+import com.rest.api.service.RefreshTokenService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Controlador de autenticación de la pila reactiva, con las mismas rutas y respuestas que {@link AuthController}.
+ *
+ * <p>El registro y el inicio de sesión no bloquean el event loop. La rotación y la revocación de tokens siguen en
+ * JPA y se ejecutan en el scheduler {@code boundedElastic}.</p>
+ */
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+    /**
+     * Servicio no bloqueante de registro e inicio de sesión.
+     */
+    private final ReactiveAuthService reactiveAuthService;
+    /**
+     * Servicio de autenticación, usado para el cierre de sesión.
+     */
+    private final AuthService authService;
+    /**
+     * Servicio que rota los tokens de actualización.
+     */
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * Endpoint para el inicio de sesión de usuarios.
+     *
+     * @param userDTO objeto que contiene las credenciales del usuario (nombre de usuario y contraseña).
+     * @return una respuesta con un token JWT y un token de actualización y un código de estado HTTP 200.
+     */
+    @PostMapping("/log-in")
+    public Mono<ResponseEntity<TokenResponseDTO>> login(@RequestBody @Valid UserDTO userDTO) {
+        return reactiveAuthService.login(userDTO).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint para el registro de nuevos usuarios.
+     *
+     * @param userDTO objeto que contiene los datos del usuario (nombre de usuario y contraseña).
+     * @return una respuesta con un mensaje de confirmación y un código de estado HTTP 200.
+     */
+    @PostMapping("/sign-up")
+    public Mono<ResponseEntity<String>> register(@RequestBody @Valid UserDTO userDTO) {
+        return reactiveAuthService.register(userDTO).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint para obtener un nuevo token JWT a cambio de un token de actualización vigente.
+     *
+     * @param refreshTokenDTO objeto que contiene el token de actualización.
+     * @return una respuesta con los nuevos tokens y un código de estado HTTP 200.
+     */
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<TokenResponseDTO>> refresh(@RequestBody @Valid RefreshTokenDTO refreshTokenDTO) {
+        return Mono.fromCallable(() -> refreshTokenService.refresh(refreshTokenDTO.getRefreshToken()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Endpoint para cerrar la sesión: revoca el token JWT y, si se envía, el token de actualización.
+     *
+     * @param authorization encabezado de autorización con el token JWT.
+     * @param refreshTokenDTO objeto opcional que contiene el token de actualización.
+     * @return una respuesta con un mensaje de confirmación y un código de estado HTTP 200.
+     */
+    @PostMapping("/log-out")
+    public Mono<ResponseEntity<String>> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                               @RequestBody(required = false) @Valid RefreshTokenDTO refreshTokenDTO) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return Mono.error(new UnauthorizedException("Token inválido"));
+        }
+        return Mono.fromRunnable(() -> authService.logout(authorization.substring(7),
+                        refreshTokenDTO != null ? refreshTokenDTO.getRefreshToken() : null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(ResponseEntity.ok("Sesión cerrada"));
+    }
+}
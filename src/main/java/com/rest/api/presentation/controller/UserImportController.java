@@ -0,0 +1,60 @@
+package com.rest.api.presentation.controller;
+
+import com.rest.api.presentation.dto.ImportResultDTO;
+import com.rest.api.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Controlador para la importación masiva de usuarios.
+ *
+ * <p>El cuerpo de la solicitud se procesa como flujo, sin cargar el archivo completo en memoria. Lee el cuerpo como
+ * {@link InputStream} bloqueante, por lo que solo está disponible en la pila servlet.</p>
+ *
+ * <p>Solo los administradores pueden importar; el rol se comprueba con el token, antes de leer el cuerpo, en la regla
+ * de la ruta ({@link com.rest.api.security.configuration.RouteRulesConfig}) y de nuevo con {@code @PreAuthorize}.</p>
+ */
+@RestController
+@PreAuthorize("hasRole('ADMIN')")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+public class UserImportController {
+    /**
+     * Servicio que contiene la lógica de la importación.
+     */
+    private final UserImportService userImportService;
+
+    /**
+     * Importa usuarios desde NDJSON, un objeto {@code {"username": ..., "password": ...}} por línea.
+     *
+     * @param body contenido del archivo.
+     * @return el resumen de la importación y un código de estado HTTP 200.
+     * @throws IOException si ocurre un error al leer el cuerpo de la solicitud.
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ImportResultDTO> importNdjson(InputStream body) throws IOException {
+        return new ResponseEntity<>(userImportService.importUsers(body, UserImportService.Format.NDJSON), HttpStatus.OK);
+    }
+
+    /**
+     * Importa usuarios desde CSV con las columnas {@code username,password}; la fila de encabezado es opcional.
+     *
+     * @param body contenido del archivo.
+     * @return el resumen de la importación y un código de estado HTTP 200.
+     * @throws IOException si ocurre un error al leer el cuerpo de la solicitud.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportResultDTO> importCsv(InputStream body) throws IOException {
+        return new ResponseEntity<>(userImportService.importUsers(body, UserImportService.Format.CSV), HttpStatus.OK);
+    }
+}
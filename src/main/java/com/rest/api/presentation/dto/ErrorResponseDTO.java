@@ -0,0 +1,35 @@
+package com.rest.api.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+/**
+ * Cuerpo de todas las respuestas de error de la API.
+ *
+ * @param status siempre {@code Error}.
+ * @param message descripción del error.
+ * @param code nombre del código de estado HTTP, por ejemplo {@code UNAUTHORIZED}.
+ * @param errors mensaje por campo en los errores de validación; se omite en el resto.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"Status", "Message", "Code", "Errors"})
+public record ErrorResponseDTO(@JsonProperty("Status") String status,
+                               @JsonProperty("Message") String message,
+                               @JsonProperty("Code") String code,
+                               @JsonProperty("Errors") Map<String, String> errors) {
+
+    /**
+     * Crea un error sin detalle por campo.
+     *
+     * @param httpStatus el código de estado HTTP de la respuesta.
+     * @param message descripción del error.
+     * @return el cuerpo de la respuesta.
+     */
+    public static ErrorResponseDTO of(HttpStatus httpStatus, String message) {
+        return new ErrorResponseDTO("Error", message, httpStatus.name(), null);
+    }
+}
@@ -0,0 +1,36 @@
+package com.rest.api.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva de usuarios.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportResultDTO {
+    /**
+     * Número de usuarios creados
+     */
+    private long imported;
+    /**
+     * Número de filas omitidas porque el nombre de usuario ya existía o estaba repetido en el archivo
+     */
+    private long duplicates;
+    /**
+     * Número de filas omitidas por no cumplir las validaciones
+     */
+    private long invalid;
+    /**
+     * Detalle de las filas omitidas, limitado para que la respuesta no crezca con el tamaño del archivo
+     */
+    private List<ImportRowErrorDTO> errors;
+    /**
+     * Indica si se omitieron detalles de errores por superar el límite
+     */
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,26 @@
+package com.rest.api.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Error de una fila durante la importación masiva de usuarios.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowErrorDTO {
+    /**
+     * Número de línea en el archivo importado, empezando en 1
+     */
+    private long line;
+    /**
+     * Nombre de usuario de la fila, puede ser nulo si la fila no se pudo leer
+     */
+    private String username;
+    /**
+     * Motivo por el que la fila no se importó
+     */
+    private String message;
+}
@@ -0,0 +1,20 @@
+package com.rest.api.presentation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ *  Objeto que contiene el token de actualización enviado por el cliente
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenDTO {
+    /**
+     * el token de actualización recibido al iniciar sesión o en la última actualización
+     */
+    @NotBlank(message = "El token de actualización es obligatorio")
+    private String refreshToken;
+}
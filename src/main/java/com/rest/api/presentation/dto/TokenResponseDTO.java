@@ -13,4 +13,8 @@ public class TokenResponseDTO {
      * la respuesta del token después de iniciar sesion con exito
      */
     private String token;
+    /**
+     * token de actualización para obtener un nuevo token sin volver a enviar las credenciales
+     */
+    private String refreshToken;
 }
@@ -15,9 +15,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class UserDTO {
     /**
-     * el nombre de usuario no puede estar vacío ni contener espacios
+     * el nombre de usuario no puede estar vacío, contener espacios ni superar el tamaño de la columna
      */
     @NotBlank(message = "El nombre de usuario no puede estar vacío")
+    @Size(max = 255, message = "El nombre de usuario debe tener como máximo 255 caracteres")
     @Pattern(regexp = "^[^\\s]+$", message = "El nombre de usuario no debe contener espacios")
     private String username;
     /**
@@ -0,0 +1,181 @@
+package com.rest.api.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.rest.api.observability.PhaseTimer;
+import com.rest.api.security.utils.JwtUtils;
+import com.rest.api.security.utils.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caché en memoria de tokens JWT ya verificados.
+ *
+ * <p>Evita repetir la verificación HMAC y la decodificación del token cuando el mismo token se envía
+ * en varias solicitudes. Las entradas se indexan por el resumen SHA-256 del token, se desalojan por
+ * tamaño y por tiempo, y nunca sobreviven a la expiración ({@code exp}) del token.</p>
+ *
+ * <p>Las estadísticas de aciertos, fallos y desalojos se publican en Micrometer con el nombre
+ * de caché {@code verifiedTokens}. Cada verificación se mide en el timer {@code auth.jwt.verify} y el span
+ * {@code jwt.verify}; los tokens rechazados se cuentan en {@code auth.jwt.invalid}.</p>
+ */
+@Component
+public class VerifiedTokenCache {
+    /**
+     * Utilidad para verificar los tokens que no están en caché.
+     */
+    private final JwtUtils jwtUtils;
+
+    /**
+     * Caché de tokens verificados, null si la caché está deshabilitada.
+     */
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    private final PhaseTimer verifyPhase;
+    private final Counter invalidTokens;
+
+    /**
+     * Construye la caché a partir de la configuración.
+     *
+     * @param jwtUtils utilidad para verificar los tokens.
+     * @param meterRegistry registro donde se publican las estadísticas de la caché.
+     * @param tracer trazador de las verificaciones.
+     * @param enabled indica si la caché está habilitada.
+     * @param maximumSize número máximo de tokens en caché.
+     * @param ttlSeconds tiempo máximo en segundos que un token permanece en caché.
+     */
+    public VerifiedTokenCache(JwtUtils jwtUtils,
+                              MeterRegistry meterRegistry,
+                              Tracer tracer,
+                              @Value("${security.jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${security.jwt.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${security.jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.jwtUtils = jwtUtils;
+        this.verifyPhase = PhaseTimer.of(meterRegistry, tracer, "auth.jwt.verify", "jwt.verify");
+        this.invalidTokens = Counter.builder("auth.jwt.invalid")
+                .description("Tokens rechazados por firma, formato o expiración")
+                .register(meterRegistry);
+        if (enabled) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(ttlSeconds)))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Devuelve los datos del token, verificándolo solo si no está en caché.
+     *
+     * @param token el token JWT recibido en la solicitud.
+     * @return el {@link VerifiedToken} correspondiente, o null si el token no es válido o ya expiró.
+     */
+    public VerifiedToken resolve(String token) {
+        if (cache == null) {
+            return verify(token);
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        VerifiedToken verifiedToken = cache.getIfPresent(digest);
+        if (verifiedToken != null) {
+            if (verifiedToken.expiresAtMillis() > System.currentTimeMillis()) {
+                return verifiedToken;
+            }
+            cache.invalidate(digest);
+            return null;
+        }
+        verifiedToken = verify(token);
+        if (verifiedToken != null) {
+            cache.put(digest, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * Elimina un token de la caché, por ejemplo al cerrar sesión o al revocarlo.
+     *
+     * @param token el token JWT que se desea invalidar.
+     */
+    public void invalidate(String token) {
+        if (cache != null) {
+            cache.invalidate(TokenDigest.of(token));
+        }
+    }
+
+    /**
+     * Elimina de la caché todos los tokens de un usuario.
+     *
+     * @param username el nombre de usuario cuyos tokens se desean invalidar.
+     */
+    public void invalidateUser(String username) {
+        if (cache != null) {
+            cache.asMap().values().removeIf(verifiedToken -> verifiedToken.username().equals(username));
+        }
+    }
+
+    /**
+     * Verifica la firma y los claims del token midiendo la fase.
+     */
+    private VerifiedToken verify(String token) {
+        VerifiedToken verifiedToken;
+        try (PhaseTimer.Phase ignored = verifyPhase.start()) {
+            verifiedToken = jwtUtils.verifyToken(token);
+        }
+        if (verifiedToken == null) {
+            invalidTokens.increment();
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * Resumen SHA-256 de un token, usado como clave para no retener el token completo en memoria.
+     */
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        private static TokenDigest of(String token) {
+            MessageDigest messageDigest;
+            try {
+                messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 no está disponible", e);
+            }
+            ByteBuffer hash = ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+
+    /**
+     * Política de expiración: el menor entre el TTL configurado y el tiempo restante hasta el {@code exp}.
+     */
+    private record TokenExpiry(long ttlNanos) implements Expiry<TokenDigest, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+            return Math.max(0, Math.min(ttlNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.rest.api.security.configuration;
+
+import com.rest.api.security.utils.BCryptStrengthCalibrator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Configuración del cifrado de contraseñas, común a la pila servlet y a la reactiva.
+ */
+@Configuration(proxyBeanMethods = false)
+public class PasswordEncoderConfig {
+    /**
+     * Este bean se utiliza para encriptar las contraseñas
+     *
+     * <p>Los hashes se guardan con un prefijo que identifica el algoritmo ({@code {bcrypt}}, {@code {pbkdf2}}),
+     * lo que permite cambiar de algoritmo o de costo sin migrar los hashes existentes. Los hashes BCrypt
+     * sin prefijo, anteriores a este formato, se siguen aceptando.</p>
+     *
+     * @param encoderId algoritmo usado para cifrar las contraseñas nuevas.
+     * @param bcryptStrength factor de trabajo de BCrypt, 0 para calibrarlo al arrancar.
+     * @param targetHashMillis tiempo objetivo por cifrado usado en la calibración.
+     * @return una instancia de {@link DelegatingPasswordEncoder}.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.encoder:bcrypt}") String encoderId,
+                                           @Value("${security.password.bcrypt.strength:0}") int bcryptStrength,
+                                           @Value("${security.password.target-hash-ms:100}") long targetHashMillis) {
+        int strength = bcryptStrength > 0
+                ? bcryptStrength
+                : BCryptStrengthCalibrator.calibrate(targetHashMillis, 10, 16);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encoderId, Map.of(
+                "bcrypt", new BCryptPasswordEncoder(strength),
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
+    }
+}
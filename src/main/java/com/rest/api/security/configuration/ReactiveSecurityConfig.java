@@ -0,0 +1,136 @@
+package com.rest.api.security.configuration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.presentation.dto.ErrorResponseDTO;
+import com.rest.api.security.cache.VerifiedTokenCache;
+import com.rest.api.security.filters.JwtAuthenticationWebFilter;
+import com.rest.api.security.filters.LoginRateLimitWebFilter;
+import com.rest.api.security.principal.ReactivePrincipalResolver;
+import com.rest.api.security.revocation.TokenRevocationService;
+import com.rest.api.security.routing.ReactiveRouteAuthorizationManager;
+import com.rest.api.security.routing.RouteRules;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Configuración de seguridad de la pila reactiva (perfil {@code reactive}).
+ *
+ * <p>Aplica las mismas reglas que {@link SecurityConfig} con los filtros equivalentes de WebFlux:
+ * {@link LoginRateLimitWebFilter} antes de la autenticación y {@link JwtAuthenticationWebFilter} en su lugar. Los
+ * permisos de cada ruta se resuelven con {@link ReactiveRouteAuthorizationManager}.</p>
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+    /**
+     * Filtro de autenticación JWT.
+     */
+    private final JwtAuthenticationWebFilter jwtAuthenticationWebFilter;
+    /**
+     * Filtro que limita los intentos de inicio de sesión por IP y por nombre de usuario.
+     */
+    private final LoginRateLimitWebFilter loginRateLimitWebFilter;
+    /**
+     * Autorización según las reglas de acceso por ruta.
+     */
+    private final ReactiveRouteAuthorizationManager routeAuthorizationManager;
+
+    /**
+     * Crea los filtros de la cadena de seguridad con la misma configuración que los filtros servlet.
+     *
+     * @param verifiedTokenCache caché de tokens verificados.
+     * @param tokenRevocationService lista de tokens revocados.
+     * @param principalResolver resolvedor del usuario autenticado.
+     * @param routeRules reglas de acceso por ruta.
+     * @param objectMapper serializador de la respuesta de rechazo del límite de intentos.
+     * @param ipCapacity intentos en ráfaga por IP.
+     * @param ipRefillSeconds segundos para reponer un intento por IP.
+     * @param usernameCapacity intentos en ráfaga por nombre de usuario.
+     * @param usernameRefillSeconds segundos para reponer un intento por nombre de usuario.
+     * @throws JsonProcessingException si la respuesta de rechazo no se puede serializar.
+     */
+    public ReactiveSecurityConfig(VerifiedTokenCache verifiedTokenCache,
+                                  TokenRevocationService tokenRevocationService,
+                                  ReactivePrincipalResolver principalResolver,
+                                  RouteRules routeRules,
+                                  ObjectMapper objectMapper,
+                                  @Value("${security.login.rate-limit.ip.capacity:20}") int ipCapacity,
+                                  @Value("${security.login.rate-limit.ip.refill-seconds:3}") long ipRefillSeconds,
+                                  @Value("${security.login.rate-limit.username.capacity:5}") int usernameCapacity,
+                                  @Value("${security.login.rate-limit.username.refill-seconds:12}") long usernameRefillSeconds)
+            throws JsonProcessingException {
+        this.routeAuthorizationManager = new ReactiveRouteAuthorizationManager(routeRules);
+        this.jwtAuthenticationWebFilter = new JwtAuthenticationWebFilter(verifiedTokenCache, tokenRevocationService,
+                principalResolver, routeAuthorizationManager);
+        this.loginRateLimitWebFilter = new LoginRateLimitWebFilter(objectMapper, ipCapacity, ipRefillSeconds,
+                usernameCapacity, usernameRefillSeconds);
+    }
+
+    /**
+     * Configura la cadena de filtros de seguridad de WebFlux.
+     *
+     * @param http objeto {@link ServerHttpSecurity} para configurar las políticas de seguridad.
+     * @param objectMapper serializador de la respuesta de acceso denegado.
+     * @param meterRegistry registro donde se cuentan los accesos denegados.
+     * @return la cadena de filtros de seguridad configurada.
+     * @throws JsonProcessingException si la respuesta de acceso denegado no se puede serializar.
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, ObjectMapper objectMapper,
+                                                         MeterRegistry meterRegistry) throws JsonProcessingException {
+        byte[] forbiddenBody = objectMapper.writeValueAsBytes(
+                ErrorResponseDTO.of(HttpStatus.FORBIDDEN, "Acceso denegado"));
+        Counter forbiddenErrors = Counter.builder("api.errors")
+                .tag("type", "forbidden")
+                .register(meterRegistry);
+        return http
+                // Deshabilitar protección contra CSRF (no necesaria para APIs REST)
+                .csrf(csrf -> csrf.disable())
+                // Sin estado: la autenticación no se guarda entre solicitudes
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                // Sin autenticación básica: solo se acepta el token JWT y su ausencia se responde con 401
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED))
+                        // Sin el rol que exige la ruta se responde 403 con el cuerpo de error de la API
+                        .accessDeniedHandler((exchange, exception) -> {
+                            forbiddenErrors.increment();
+                            ServerHttpResponse response = exchange.getResponse();
+                            response.setStatusCode(HttpStatus.FORBIDDEN);
+                            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                            response.getHeaders().setContentLength(forbiddenBody.length);
+                            return response.writeWith(Mono.just(response.bufferFactory().wrap(forbiddenBody)));
+                        }))
+                // Configurar permisos de acceso para los endpoints según las reglas por ruta
+                .authorizeExchange(exchange -> exchange.anyExchange().access(routeAuthorizationManager))
+                // Limitar los intentos de inicio de sesión antes de cualquier consulta o verificación de contraseña
+                .addFilterBefore(loginRateLimitWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                // Autenticar con el token JWT en el lugar de la autenticación estándar
+                .addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * Elimina periódicamente las cubetas inactivas del límite de intentos.
+     */
+    @Scheduled(fixedDelayString = "${security.login.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleRateLimits() {
+        loginRateLimitWebFilter.evictIdle();
+    }
+}
@@ -0,0 +1,42 @@
+package com.rest.api.security.configuration;
+
+import com.rest.api.security.routing.RouteRule;
+import com.rest.api.security.routing.RouteRules;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Reglas de acceso por ruta, compartidas por {@link SecurityConfig} y {@link ReactiveSecurityConfig}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class RouteRulesConfig {
+
+    /**
+     * Construye la tabla de reglas de acceso; las rutas sin regla exigen autenticación.
+     *
+     * @param actuatorBasePath ruta base de los endpoints de Actuator.
+     * @return la tabla de reglas.
+     */
+    @Bean
+    public RouteRules routeRules(@Value("${management.endpoints.web.base-path:/actuator}") String actuatorBasePath) {
+        return RouteRules.builder()
+                // Permitir el estado de la aplicación
+                .route(actuatorBasePath + "/health/**", RouteRule.PUBLIC)
+                // El resto de Actuator (métricas, Prometheus) expone datos internos: el registro es público, por lo
+                // que no basta con autenticarse
+                .route(actuatorBasePath + "/**", RouteRule.role("ADMIN"))
+                // Permitir la descarga de las claves públicas para verificar tokens en otros servicios
+                .route(HttpMethod.GET, "/.well-known/jwks.json", RouteRule.PUBLIC)
+                // Permitir acceso público a los endpoints de autenticación
+                .route(HttpMethod.POST, "/auth/**", RouteRule.PUBLIC)
+                // Requerir autenticación para los endpoints de la API
+                .route("/api/**", RouteRule.AUTHENTICATED)
+                // Solo los administradores pueden importar usuarios
+                .route(HttpMethod.POST, "/api/v1/users/import", RouteRule.role("ADMIN"))
+                // Requerir autenticación para cualquier otra solicitud
+                .defaultRule(RouteRule.AUTHENTICATED)
+                .build();
+    }
+}
@@ -1,17 +1,24 @@
 package com.rest.api.security.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.presentation.dto.ErrorResponseDTO;
 import com.rest.api.security.filters.JwtAuthenticationFilter;
+import com.rest.api.security.filters.LoginRateLimitFilter;
+import com.rest.api.security.routing.RouteAuthorizationManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
-import org.springframework.security.config.Customizer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 /**
  * Configuración de seguridad para la aplicación.
@@ -19,51 +26,73 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * <p>Define la configuración de seguridad utilizando Spring Security, incluyendo el manejo
  * de autenticación basada en JWT, la política de sesión, y los permisos de acceso para diferentes
  * endpoints.</p>
+ *
+ * <p>Los permisos de cada ruta están en {@link RouteRulesConfig} y se resuelven una sola vez por solicitud con
+ * {@link RouteAuthorizationManager}. Los permisos por rol se declaran en los métodos con {@code @PreAuthorize} y se
+ * evalúan con las autoridades que el filtro JWT obtiene del token; una ruta que exige un rol lo declara también en
+ * {@link RouteRulesConfig}, para rechazar la solicitud antes de leer el cuerpo.</p>
+ *
+ * <p>Solo aplica a la pila servlet; con el perfil {@code reactive} las mismas reglas las define
+ * {@link ReactiveSecurityConfig}.</p>
  */
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
     /**
      * Filtro personalizado para la autenticación JWT.
      */
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    /**
+     * Filtro que limita los intentos de inicio de sesión por IP y por nombre de usuario.
+     */
+    private final LoginRateLimitFilter loginRateLimitFilter;
+    /**
+     * Autorización según las reglas de acceso por ruta.
+     */
+    private final RouteAuthorizationManager routeAuthorizationManager;
 
     /**
      * Configura la cadena de filtros de seguridad.
      *
      * @param httpSecurity objeto {@link HttpSecurity} para configurar las políticas de seguridad.
+     * @param objectMapper serializador de la respuesta de acceso denegado.
+     * @param meterRegistry registro donde se cuentan los accesos denegados.
      * @return la cadena de filtros de seguridad configurada.
      * @throws Exception si ocurre un error durante la configuración.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity, ObjectMapper objectMapper,
+                                                   MeterRegistry meterRegistry) throws Exception {
+        byte[] forbiddenBody = objectMapper.writeValueAsBytes(
+                ErrorResponseDTO.of(HttpStatus.FORBIDDEN, "Acceso denegado"));
+        Counter forbiddenErrors = Counter.builder("api.errors")
+                .tag("type", "forbidden")
+                .register(meterRegistry);
         return  httpSecurity
                 // Deshabilitar protección contra CSRF (no necesaria para APIs REST)
                 .csrf(csrf -> csrf.disable())
-                .httpBasic(Customizer.withDefaults())
                 // Configurar política de sesión sin estado
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                // Configurar permisos de acceso para los endpoints
-                .authorizeHttpRequests(http -> {
-                    // Permitir acceso público a los endpoints de autenticación
-                    http.requestMatchers(HttpMethod.POST, "/auth/**").permitAll();
-                    // Requerir autenticación para los endpoints de la API
-                    http.requestMatchers("/api/**").authenticated();
-                    // Requerir autenticación para cualquier otra solicitud
-                    http.anyRequest().authenticated();
-                })
+                // Sin autenticación básica: solo se acepta el token JWT y su ausencia se responde con 401
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                        // Sin el rol que exige la ruta se responde 403 con el cuerpo de error de la API
+                        .accessDeniedHandler((request, response, exception) -> {
+                            forbiddenErrors.increment();
+                            response.setStatus(HttpStatus.FORBIDDEN.value());
+                            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                            response.setContentLength(forbiddenBody.length);
+                            response.getOutputStream().write(forbiddenBody);
+                        }))
+                // Configurar permisos de acceso para los endpoints según las reglas por ruta
+                .authorizeHttpRequests(http -> http.anyRequest().access(routeAuthorizationManager))
+                // Limitar los intentos de inicio de sesión antes de cualquier consulta o verificación de contraseña
+                .addFilterBefore(loginRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 // Agregar el filtro de autenticación JWT antes del filtro estándar de autenticación
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
-    /**
-     * Este bean se utiliza para encriptar las contraseñas
-     *
-     * @return una instancia de {@link BCryptPasswordEncoder}.
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
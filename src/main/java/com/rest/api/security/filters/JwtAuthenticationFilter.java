@@ -1,13 +1,17 @@
 package com.rest.api.security.filters;
 
-import com.rest.api.persistence.entity.UserEntity;
-import com.rest.api.persistence.repository.IUserRepository;
-import com.rest.api.security.utils.JwtUtils;
+import com.rest.api.persistence.entity.Role;
+import com.rest.api.security.cache.VerifiedTokenCache;
+import com.rest.api.security.principal.PrincipalResolver;
+import com.rest.api.security.revocation.TokenRevocationService;
+import com.rest.api.security.routing.RouteAuthorizationManager;
+import com.rest.api.security.utils.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -20,19 +24,31 @@ import java.io.IOException;
  * Filtro de autenticación JWT que se ejecuta una vez por cada solicitud.
  *
  *Este filtro procesa cada solicitud HTTP para verificar si contiene un token JWT válido
- * en el encabezado de autorización. Si el token es válido, establece la autenticación.
+ * en el encabezado de autorización. Si el token es válido, establece la autenticación con los roles del token,
+ * sin consultar la base de datos.
+ * En las rutas públicas no procesa el token ni consulta el usuario.
+ * En la pila reactiva lo reemplaza {@link JwtAuthenticationWebFilter}.
  */
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
-     * Utilidad para la validación de tokens JWT.
+     * Caché de tokens verificados, valida los tokens JWT que no estén en caché.
      */
-    private final JwtUtils jwtUtils;
+    private final VerifiedTokenCache verifiedTokenCache;
     /**
-     * Repositorio para acceder a datos de los usuarios.
+     * Lista en memoria de tokens revocados.
      */
-    private final IUserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    /**
+     * Resuelve si el usuario del token puede autenticarse (claims, caché o base de datos).
+     */
+    private final PrincipalResolver principalResolver;
+    /**
+     * Resuelve la regla de acceso de la ruta, una sola vez por solicitud.
+     */
+    private final RouteAuthorizationManager routeAuthorizationManager;
 
     /**
      * procesa las solicitudes HTTP para realizar la autenticación basada en JWT.
@@ -53,23 +69,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain)
             throws ServletException, IOException {
 
+        // Las rutas públicas no necesitan el token: se omiten la verificación y la consulta del usuario
+        if (routeAuthorizationManager.resolve(request).isPublic()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
         String authHeader = request.getHeader("Authorization");
         String jwt = null;
         String username = null;
+        int roles = 0;
         // Validar si el encabezado contiene un token JWT
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             jwt = authHeader.substring(7);
-            username = jwtUtils.validateToken(jwt);
+            VerifiedToken verifiedToken = verifiedTokenCache.resolve(jwt);
+            // Un token revocado se trata igual que un token inválido
+            if (verifiedToken != null && !tokenRevocationService.isRevoked(verifiedToken.tokenId())) {
+                username = verifiedToken.username();
+                roles = verifiedToken.roles();
+            }
         }
         // Si el token es válido y no hay autenticación en el contexto de seguridad
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // Buscar al usuario en la base de datos
-            UserEntity userEntity = userRepository.findByUsername(username).orElse(null);
-
-            if (userEntity != null) {
-                // Crear un token de autenticación para el usuario
+            // Confirmar que el usuario existe según el modo de resolución configurado
+            if (principalResolver.exists(username)) {
+                // Crear un token de autenticación con las autoridades precreadas de los roles del token
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        username, null, null);
+                        username, null, Role.authorities(roles));
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 // Establecer la autenticación en el contexto de seguridad
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -0,0 +1,76 @@
+package com.rest.api.security.filters;
+
+import com.rest.api.persistence.entity.Role;
+import com.rest.api.security.cache.VerifiedTokenCache;
+import com.rest.api.security.principal.ReactivePrincipalResolver;
+import com.rest.api.security.revocation.TokenRevocationService;
+import com.rest.api.security.routing.ReactiveRouteAuthorizationManager;
+import com.rest.api.security.utils.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Equivalente reactivo de {@link JwtAuthenticationFilter} para la pila WebFlux.
+ *
+ * <p>Valida el token igual que el filtro servlet (caché de tokens verificados y lista de revocados, sin bloquear) y
+ * consulta el usuario con {@link ReactivePrincipalResolver}. Si el token es válido, la autenticación con los roles del
+ * token se agrega al contexto de Reactor del resto de la cadena. En las rutas públicas no procesa el token.</p>
+ *
+ * <p>No es un bean: WebFlux agrega todos los beans {@link WebFilter} a su cadena global y el filtro se ejecutaría dos
+ * veces. Lo crea {@code ReactiveSecurityConfig} y solo se usa dentro de la cadena de seguridad.</p>
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+    /**
+     * Caché de tokens verificados, valida los tokens JWT que no estén en caché.
+     */
+    private final VerifiedTokenCache verifiedTokenCache;
+    /**
+     * Lista en memoria de tokens revocados.
+     */
+    private final TokenRevocationService tokenRevocationService;
+    /**
+     * Resuelve si el usuario del token puede autenticarse (claims, caché o base de datos).
+     */
+    private final ReactivePrincipalResolver principalResolver;
+    /**
+     * Resuelve la regla de acceso de la ruta, una sola vez por solicitud.
+     */
+    private final ReactiveRouteAuthorizationManager routeAuthorizationManager;
+
+    /**
+     * Autentica la solicitud si contiene un token JWT válido y continúa con la cadena.
+     *
+     * @param exchange la solicitud y la respuesta HTTP.
+     * @param chain la cadena de filtros que se debe continuar.
+     * @return la finalización del procesamiento de la solicitud.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // Las rutas públicas no necesitan el token: se omiten la verificación y la consulta del usuario
+        if (routeAuthorizationManager.resolve(exchange).isPublic()) {
+            return chain.filter(exchange);
+        }
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+        VerifiedToken verifiedToken = verifiedTokenCache.resolve(authHeader.substring(7));
+        // Un token revocado se trata igual que un token inválido
+        if (verifiedToken == null || tokenRevocationService.isRevoked(verifiedToken.tokenId())) {
+            return chain.filter(exchange);
+        }
+        String username = verifiedToken.username();
+        return principalResolver.exists(username).flatMap(exists -> exists
+                ? chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(username, null,
+                                Role.authorities(verifiedToken.roles()))))
+                : chain.filter(exchange));
+    }
+}
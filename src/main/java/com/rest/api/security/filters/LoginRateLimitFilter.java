@@ -0,0 +1,238 @@
+package com.rest.api.security.filters;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.presentation.dto.ErrorResponseDTO;
+import com.rest.api.security.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Filtro que limita los intentos de inicio de sesión por IP y por nombre de usuario.
+ *
+ * <p>Se ejecuta antes del controlador, por lo que los intentos que superan el límite se rechazan con 429
+ * sin consultar la base de datos ni verificar la contraseña. El cuerpo de la solicitud se lee una vez para
+ * obtener el nombre de usuario y se entrega intacto al controlador.</p>
+ *
+ * <p>La IP es la de la conexión; detrás de un proxy se debe configurar {@code server.forward-headers-strategy}.</p>
+ *
+ * <p>En la pila reactiva el mismo límite lo aplica {@link LoginRateLimitWebFilter}.</p>
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+    /**
+     * Ruta del endpoint de inicio de sesión.
+     */
+    private static final String LOGIN_PATH = "/auth/log-in";
+
+    /**
+     * Tamaño máximo del cuerpo aceptado; una solicitud de inicio de sesión ocupa unas decenas de bytes.
+     */
+    private static final int MAX_BODY_BYTES = 4096;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Respuesta fija para los intentos rechazados, serializada al iniciar.
+     */
+    private final byte[] tooManyRequestsBody;
+
+    private final RateLimiter ipRateLimiter;
+    private final RateLimiter usernameRateLimiter;
+
+    /**
+     * Construye el filtro a partir de la configuración.
+     *
+     * @param objectMapper serializador de la respuesta de rechazo.
+     * @param ipCapacity intentos en ráfaga por IP.
+     * @param ipRefillSeconds segundos para reponer un intento por IP.
+     * @param usernameCapacity intentos en ráfaga por nombre de usuario.
+     * @param usernameRefillSeconds segundos para reponer un intento por nombre de usuario.
+     */
+    public LoginRateLimitFilter(ObjectMapper objectMapper,
+                                @Value("${security.login.rate-limit.ip.capacity:20}") int ipCapacity,
+                                @Value("${security.login.rate-limit.ip.refill-seconds:3}") long ipRefillSeconds,
+                                @Value("${security.login.rate-limit.username.capacity:5}") int usernameCapacity,
+                                @Value("${security.login.rate-limit.username.refill-seconds:12}") long usernameRefillSeconds)
+            throws JsonProcessingException {
+        this.tooManyRequestsBody = objectMapper.writeValueAsBytes(
+                ErrorResponseDTO.of(HttpStatus.TOO_MANY_REQUESTS, "Demasiados intentos, intente más tarde"));
+        this.ipRateLimiter = new RateLimiter(ipCapacity, Duration.ofSeconds(ipRefillSeconds));
+        this.usernameRateLimiter = new RateLimiter(usernameCapacity, Duration.ofSeconds(usernameRefillSeconds));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        int contextLength = request.getContextPath().length();
+        return uri.length() != contextLength + LOGIN_PATH.length() || !uri.startsWith(LOGIN_PATH, contextLength);
+    }
+
+    /**
+     * Aplica el límite por IP y, después, el límite por nombre de usuario.
+     *
+     * @param request la solicitud HTTP entrante.
+     * @param response la respuesta HTTP que se enviará.
+     * @param filterChain la cadena de filtros que se debe continuar.
+     * @throws ServletException si ocurre un error al procesar el filtro.
+     * @throws IOException si ocurre un error de entrada/salida.
+     */
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!ipRateLimiter.tryAcquire(request.getRemoteAddr())) {
+            reject(response);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        String username = readUsername(body);
+        if (username != null && !usernameRateLimiter.tryAcquire(username)) {
+            reject(response);
+            return;
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    /**
+     * Elimina periódicamente las cubetas inactivas para que la memoria no crezca con las IPs y usuarios vistos.
+     */
+    @Scheduled(fixedDelayString = "${security.login.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        ipRateLimiter.evictIdle();
+        usernameRateLimiter.evictIdle();
+    }
+
+    /**
+     * Obtiene el campo {@code username} del primer nivel del JSON, o null si no existe o el JSON no es válido.
+     *
+     * <p>El nombre se devuelve sin espacios en los extremos y en minúsculas: la tabla {@code user} compara sin
+     * distinguir mayúsculas, así que "Ana" y "ANA" llegan a la misma cuenta y deben compartir la cubeta.</p>
+     */
+    static String readUsername(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                token = parser.nextToken();
+                if ("username".equals(field) && token == JsonToken.VALUE_STRING) {
+                    return parser.getText().trim().toLowerCase(Locale.ROOT);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(tooManyRequestsBody.length);
+        response.getOutputStream().write(tooManyRequestsBody);
+    }
+
+    /**
+     * Solicitud que entrega un cuerpo ya leído.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // El cuerpo ya está en memoria: todo está disponible de inmediato
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
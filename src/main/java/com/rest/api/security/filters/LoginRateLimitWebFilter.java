@@ -0,0 +1,159 @@
+package com.rest.api.security.filters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.presentation.dto.ErrorResponseDTO;
+import com.rest.api.security.ratelimit.RateLimiter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * Equivalente reactivo de {@link LoginRateLimitFilter} para la pila WebFlux.
+ *
+ * <p>Aplica los mismos límites por IP y por nombre de usuario antes de consultar la base de datos o verificar la
+ * contraseña. El cuerpo se acumula sin bloquear hasta el mismo tamaño máximo y se entrega intacto al controlador.</p>
+ *
+ * <p>Como {@link JwtAuthenticationWebFilter}, no es un bean; {@code ReactiveSecurityConfig} lo crea y programa
+ * {@link #evictIdle()}.</p>
+ */
+public class LoginRateLimitWebFilter implements WebFilter {
+    /**
+     * Ruta del endpoint de inicio de sesión.
+     */
+    private static final String LOGIN_PATH = "/auth/log-in";
+
+    /**
+     * Tamaño máximo del cuerpo aceptado; una solicitud de inicio de sesión ocupa unas decenas de bytes.
+     */
+    private static final int MAX_BODY_BYTES = 4096;
+
+    /**
+     * Respuesta fija para los intentos rechazados, serializada al iniciar.
+     */
+    private final byte[] tooManyRequestsBody;
+
+    private final RateLimiter ipRateLimiter;
+    private final RateLimiter usernameRateLimiter;
+
+    /**
+     * Construye el filtro con los mismos parámetros que {@link LoginRateLimitFilter}.
+     *
+     * @param objectMapper serializador de la respuesta de rechazo.
+     * @param ipCapacity intentos en ráfaga por IP.
+     * @param ipRefillSeconds segundos para reponer un intento por IP.
+     * @param usernameCapacity intentos en ráfaga por nombre de usuario.
+     * @param usernameRefillSeconds segundos para reponer un intento por nombre de usuario.
+     * @throws JsonProcessingException si la respuesta de rechazo no se puede serializar.
+     */
+    public LoginRateLimitWebFilter(ObjectMapper objectMapper, int ipCapacity, long ipRefillSeconds,
+                                   int usernameCapacity, long usernameRefillSeconds) throws JsonProcessingException {
+        this.tooManyRequestsBody = objectMapper.writeValueAsBytes(
+                ErrorResponseDTO.of(HttpStatus.TOO_MANY_REQUESTS, "Demasiados intentos, intente más tarde"));
+        this.ipRateLimiter = new RateLimiter(ipCapacity, Duration.ofSeconds(ipRefillSeconds));
+        this.usernameRateLimiter = new RateLimiter(usernameCapacity, Duration.ofSeconds(usernameRefillSeconds));
+    }
+
+    /**
+     * Aplica el límite por IP y, después de leer el cuerpo, el límite por nombre de usuario.
+     *
+     * @param exchange la solicitud y la respuesta HTTP.
+     * @param chain la cadena de filtros que se debe continuar.
+     * @return la finalización del procesamiento de la solicitud.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.POST
+                || !LOGIN_PATH.equals(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        if (!ipRateLimiter.tryAcquire(remoteAddress(request))) {
+            return reject(response);
+        }
+        return DataBufferUtils.join(request.getBody(), MAX_BODY_BYTES)
+                .map(LoginRateLimitWebFilter::toBytes)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> {
+                    String username = LoginRateLimitFilter.readUsername(body);
+                    if (username != null && !usernameRateLimiter.tryAcquire(username)) {
+                        return reject(response);
+                    }
+                    ServerHttpRequest cachedBodyRequest = new CachedBodyRequest(request, body, response.bufferFactory());
+                    return chain.filter(exchange.mutate().request(cachedBodyRequest).build());
+                })
+                .onErrorResume(DataBufferLimitException.class, exception -> {
+                    response.setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+                    return response.setComplete();
+                });
+    }
+
+    /**
+     * Elimina las cubetas inactivas para que la memoria no crezca con las IPs y usuarios vistos.
+     */
+    public void evictIdle() {
+        ipRateLimiter.evictIdle();
+        usernameRateLimiter.evictIdle();
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return "";
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(tooManyRequestsBody.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(tooManyRequestsBody)));
+    }
+
+    /**
+     * Solicitud que entrega un cuerpo ya leído.
+     */
+    private static final class CachedBodyRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+        private final DataBufferFactory bufferFactory;
+
+        private CachedBodyRequest(ServerHttpRequest request, byte[] body, DataBufferFactory bufferFactory) {
+            super(request);
+            this.body = body;
+            this.bufferFactory = bufferFactory;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(bufferFactory.wrap(body)));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.rest.api.security.principal;
+
+/**
+ * Estrategia para confirmar que el usuario de un token válido sigue existiendo.
+ */
+public enum PrincipalResolutionMode {
+    /**
+     * Confía en los claims del token, no consulta la base de datos.
+     */
+    CLAIMS,
+    /**
+     * Consulta la base de datos solo si el usuario no está en la caché de usuarios.
+     */
+    CACHE,
+    /**
+     * Consulta la base de datos en cada solicitud.
+     */
+    DATABASE
+}
@@ -0,0 +1,110 @@
+package com.rest.api.security.principal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rest.api.observability.PhaseTimer;
+import com.rest.api.persistence.repository.IUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Resuelve el usuario autenticado a partir del nombre de usuario contenido en un token válido.
+ *
+ * <p>Según {@link PrincipalResolutionMode} confía en el token, usa una caché de lectura con TTL
+ * o consulta la base de datos en cada solicitud. Solo se guardan en caché los usuarios existentes.</p>
+ *
+ * <p>Las consultas a la base de datos se miden en el timer {@code auth.principal.lookup} y el span
+ * {@code principal.lookup}.</p>
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PrincipalResolver {
+    /**
+     * Repositorio para acceder a datos de los usuarios.
+     */
+    private final IUserRepository userRepository;
+
+    /**
+     * Estrategia de resolución configurada.
+     */
+    private final PrincipalResolutionMode mode;
+
+    /**
+     * Caché de usuarios existentes, null si el modo no es {@link PrincipalResolutionMode#CACHE}.
+     */
+    private final Cache<String, Boolean> userCache;
+
+    private final PhaseTimer lookupPhase;
+
+    /**
+     * Construye el resolvedor a partir de la configuración.
+     *
+     * @param userRepository repositorio de usuarios.
+     * @param meterRegistry registro donde se publican las estadísticas de la caché.
+     * @param tracer trazador de las consultas.
+     * @param mode estrategia de resolución.
+     * @param maximumSize número máximo de usuarios en caché.
+     * @param ttlSeconds tiempo en segundos que un usuario permanece en caché.
+     */
+    public PrincipalResolver(IUserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             Tracer tracer,
+                             @Value("${security.principal.resolution:CACHE}") PrincipalResolutionMode mode,
+                             @Value("${security.principal.cache.maximum-size:10000}") long maximumSize,
+                             @Value("${security.principal.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.mode = mode;
+        this.lookupPhase = PhaseTimer.of(meterRegistry, tracer, "auth.principal.lookup", "principal.lookup",
+                "mode", mode.name());
+        if (mode == PrincipalResolutionMode.CACHE) {
+            this.userCache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, userCache, "principals");
+        } else {
+            this.userCache = null;
+        }
+    }
+
+    /**
+     * Indica si el usuario de un token válido puede autenticarse.
+     *
+     * @param username el nombre de usuario contenido en el token.
+     * @return true si el usuario existe según la estrategia configurada.
+     */
+    public boolean exists(String username) {
+        return switch (mode) {
+            case CLAIMS -> true;
+            case CACHE -> userCache.get(username, this::loadUser) != null;
+            case DATABASE -> loadUser(username) != null;
+        };
+    }
+
+    /**
+     * Elimina un usuario de la caché, se invoca cuando el usuario cambia o se elimina.
+     *
+     * @param username el nombre de usuario que se desea invalidar.
+     */
+    public void invalidate(String username) {
+        if (userCache != null) {
+            userCache.invalidate(username);
+        }
+    }
+
+    /**
+     * Carga un usuario desde la base de datos; devuelve null si no existe para no guardarlo en caché.
+     */
+    private Boolean loadUser(String username) {
+        try (PhaseTimer.Phase ignored = lookupPhase.start()) {
+            return userRepository.existsByUsername(username) ? Boolean.TRUE : null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.rest.api.security.principal;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rest.api.persistence.repository.ReactiveUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Equivalente no bloqueante de {@link PrincipalResolver} para la pila reactiva.
+ *
+ * <p>Usa la misma configuración y las mismas estrategias. En modo {@link PrincipalResolutionMode#CACHE} la caché
+ * es asíncrona: las solicitudes simultáneas del mismo usuario esperan una sola consulta, y los usuarios inexistentes
+ * no se guardan. Las consultas se miden en el timer {@code auth.principal.lookup}; en la pila reactiva no se abre
+ * un span por consulta.</p>
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePrincipalResolver {
+
+    private final ReactiveUserRepository userRepository;
+    private final PrincipalResolutionMode mode;
+
+    /**
+     * Caché de usuarios existentes, null si el modo no es {@link PrincipalResolutionMode#CACHE}.
+     */
+    private final AsyncCache<String, Boolean> userCache;
+
+    private final Timer lookupTimer;
+
+    /**
+     * Construye el resolvedor a partir de la configuración.
+     *
+     * @param userRepository repositorio reactivo de usuarios.
+     * @param meterRegistry registro donde se publican el timer y las estadísticas de la caché.
+     * @param mode estrategia de resolución.
+     * @param maximumSize número máximo de usuarios en caché.
+     * @param ttlSeconds tiempo en segundos que un usuario permanece en caché.
+     */
+    public ReactivePrincipalResolver(ReactiveUserRepository userRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${security.principal.resolution:CACHE}") PrincipalResolutionMode mode,
+                                     @Value("${security.principal.cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${security.principal.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.mode = mode;
+        this.lookupTimer = Timer.builder("auth.principal.lookup")
+                .tag("mode", mode.name())
+                .register(meterRegistry);
+        if (mode == PrincipalResolutionMode.CACHE) {
+            this.userCache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                    .recordStats()
+                    .buildAsync();
+            CaffeineCacheMetrics.monitor(meterRegistry, userCache, "principals");
+        } else {
+            this.userCache = null;
+        }
+    }
+
+    /**
+     * Indica si el usuario de un token válido puede autenticarse.
+     *
+     * @param username el nombre de usuario contenido en el token.
+     * @return true si el usuario existe según la estrategia configurada.
+     */
+    public Mono<Boolean> exists(String username) {
+        return switch (mode) {
+            case CLAIMS -> Mono.just(Boolean.TRUE);
+            case CACHE -> Mono.fromFuture(() -> userCache.get(username, (key, executor) -> loadUser(key).toFuture()))
+                    .hasElement();
+            case DATABASE -> loadUser(username).hasElement();
+        };
+    }
+
+    /**
+     * Elimina un usuario de la caché, se invoca cuando el usuario cambia o se elimina.
+     *
+     * @param username el nombre de usuario que se desea invalidar.
+     */
+    public void invalidate(String username) {
+        if (userCache != null) {
+            userCache.synchronous().invalidate(username);
+        }
+    }
+
+    /**
+     * Consulta un usuario en la base de datos; vacío si no existe, para no guardarlo en caché.
+     */
+    private Mono<Boolean> loadUser(String username) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return userRepository.existsByUsername(username)
+                    .doFinally(signal -> lookupTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+        }).filter(Boolean::booleanValue);
+    }
+}
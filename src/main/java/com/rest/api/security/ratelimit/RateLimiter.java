@@ -0,0 +1,99 @@
+package com.rest.api.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitador de frecuencia por clave con semántica de cubeta de tokens.
+ *
+ * <p>Implementa el algoritmo GCRA: el estado de cada cubeta es un único {@code long} con el instante teórico
+ * en que la cubeta vuelve a estar llena, y cada intento lo avanza con una operación CAS. No usa bloqueos y,
+ * para una clave ya conocida, no reserva memoria. Las cubetas se guardan en un {@link ConcurrentHashMap},
+ * cuyas lecturas no bloquean, y las que vuelven a estar llenas se eliminan con {@link #evictIdle()}.</p>
+ */
+public class RateLimiter {
+    /**
+     * Tiempo en nanosegundos que tarda en reponerse un token.
+     */
+    private final long emissionIntervalNanos;
+
+    /**
+     * Adelanto máximo permitido sobre el instante actual, equivale a la capacidad de la cubeta menos un token.
+     */
+    private final long burstToleranceNanos;
+
+    /**
+     * Instante teórico de la próxima llegada (en nanosegundos) por clave.
+     */
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Construye un limitador.
+     *
+     * @param capacity número de intentos permitidos en ráfaga.
+     * @param refillInterval tiempo que tarda en reponerse un intento.
+     */
+    public RateLimiter(int capacity, Duration refillInterval) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 1");
+        }
+        this.emissionIntervalNanos = refillInterval.toNanos();
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+    }
+
+    /**
+     * Consume un intento de la cubeta de una clave.
+     *
+     * @param key la clave, por ejemplo una IP o un nombre de usuario.
+     * @return true si el intento está permitido, false si la cubeta está vacía.
+     */
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    /**
+     * Consume un intento de la cubeta de una clave en un instante dado.
+     *
+     * @param key la clave.
+     * @param nowNanos instante actual en nanosegundos, según {@link System#nanoTime()}.
+     * @return true si el intento está permitido.
+     */
+    boolean tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            AtomicLong created = new AtomicLong(nowNanos);
+            bucket = buckets.putIfAbsent(key, created);
+            if (bucket == null) {
+                bucket = created;
+            }
+        }
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long allowedAt = Math.max(theoreticalArrival, nowNanos);
+            if (allowedAt - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, allowedAt + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Elimina las cubetas que ya se repusieron por completo; se comportan igual que una cubeta nueva.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    /**
+     * Devuelve el número de cubetas en memoria.
+     *
+     * @return el número de claves con intentos recientes.
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
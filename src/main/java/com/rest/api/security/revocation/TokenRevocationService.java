@@ -0,0 +1,149 @@
+package com.rest.api.security.revocation;
+
+import com.rest.api.persistence.entity.RevokedTokenEntity;
+import com.rest.api.persistence.repository.IRevokedTokenRepository;
+import com.rest.api.security.utils.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de tokens de acceso revocados antes de su expiración.
+ *
+ * <p>La comprobación por solicitud es una búsqueda en un mapa en memoria, sin consultar la base de datos.
+ * Las revocaciones se guardan en la tabla {@code revoked_token} y cada instancia lee periódicamente solo las
+ * filas nuevas, por lo que una revocación llega al resto de instancias en un intervalo de sondeo.</p>
+ *
+ * <p>Un identificador se asigna al insertar pero la fila solo es visible al confirmar la transacción, así que una
+ * revocación puede aparecer por debajo de identificadores ya leídos. Para no perderla, cada cierto tiempo el sondeo
+ * vuelve a leer todas las revocaciones vigentes en lugar de solo las nuevas.</p>
+ *
+ * <p>Cada entrada se descarta al llegar la expiración del token revocado, momento a partir del cual el token
+ * ya no pasa la verificación; así la memoria usada depende de las revocaciones dentro de la duración de un
+ * token de acceso y no del total histórico.</p>
+ */
+@Component
+public class TokenRevocationService {
+    /**
+     * Filas leídas por consulta durante el sondeo.
+     */
+    private static final int POLL_BATCH_SIZE = 1000;
+
+    /**
+     * Identificadores que se vuelven a leer en cada sondeo, para no perder revocaciones de transacciones que
+     * obtuvieron su identificador antes pero confirmaron después que otras.
+     */
+    private static final long POLL_OVERLAP = 100;
+
+    private final IRevokedTokenRepository revokedTokenRepository;
+
+    /**
+     * Tokens revocados por identificador ({@code jti}), con el instante de expiración en milisegundos.
+     */
+    private final ConcurrentHashMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Identificador de la última revocación leída de la base de datos.
+     */
+    private volatile long lastSeenId;
+
+    /**
+     * Milisegundos entre lecturas completas de las revocaciones vigentes.
+     */
+    private final long resyncIntervalMillis;
+
+    /**
+     * Instante de la última lectura completa, en milisegundos.
+     */
+    private volatile long lastResyncMillis;
+
+    /**
+     * Construye el servicio de revocación.
+     *
+     * @param revokedTokenRepository repositorio de revocaciones.
+     * @param resyncIntervalMillis milisegundos entre lecturas completas de las revocaciones vigentes.
+     */
+    public TokenRevocationService(
+            IRevokedTokenRepository revokedTokenRepository,
+            @Value("${security.jwt.revocation.resync-interval-ms:60000}") long resyncIntervalMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.resyncIntervalMillis = resyncIntervalMillis;
+    }
+
+    /**
+     * Indica si un token fue revocado.
+     *
+     * @param tokenId identificador del token ({@code jti}), puede ser null.
+     * @return true si el token está revocado.
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revokedTokens.containsKey(tokenId);
+    }
+
+    /**
+     * Revoca un token hasta su expiración.
+     *
+     * @param verifiedToken el token verificado que se desea revocar.
+     */
+    public void revoke(VerifiedToken verifiedToken) {
+        if (verifiedToken.tokenId() == null) {
+            return;
+        }
+        revokedTokens.put(verifiedToken.tokenId(), verifiedToken.expiresAtMillis());
+        try {
+            revokedTokenRepository.save(new RevokedTokenEntity(
+                    null, verifiedToken.tokenId(), Instant.ofEpochMilli(verifiedToken.expiresAtMillis())));
+        } catch (DataIntegrityViolationException exception) {
+            // El token ya estaba revocado
+        }
+    }
+
+    /**
+     * Lee las revocaciones registradas por otras instancias y descarta las de tokens ya expirados.
+     *
+     * <p>Normalmente lee desde el último identificador visto; al cumplirse {@code resyncIntervalMillis} lee todas
+     * las revocaciones vigentes, incluidas las que confirmaron tarde.</p>
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.poll-interval-ms:5000}")
+    public void poll() {
+        long now = System.currentTimeMillis();
+        boolean resync = now - lastResyncMillis >= resyncIntervalMillis;
+        long fromId = resync ? 0 : Math.max(0, lastSeenId - POLL_OVERLAP);
+        long maxId = lastSeenId;
+        Instant notExpired = Instant.ofEpochMilli(now);
+        List<RevokedTokenEntity> page;
+        do {
+            page = revokedTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+                    fromId, notExpired, Limit.of(POLL_BATCH_SIZE));
+            for (RevokedTokenEntity revokedToken : page) {
+                long expiresAt = revokedToken.getExpiresAt().toEpochMilli();
+                if (expiresAt > now) {
+                    revokedTokens.put(revokedToken.getTokenId(), expiresAt);
+                }
+                fromId = revokedToken.getId();
+                maxId = Math.max(maxId, fromId);
+            }
+        } while (page.size() == POLL_BATCH_SIZE);
+        lastSeenId = maxId;
+        if (resync) {
+            lastResyncMillis = now;
+        }
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    /**
+     * Elimina periódicamente de la base de datos las revocaciones de tokens ya expirados.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        revokedTokenRepository.deleteExpired(Instant.now());
+    }
+}
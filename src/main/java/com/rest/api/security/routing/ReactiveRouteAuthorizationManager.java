@@ -0,0 +1,74 @@
+package com.rest.api.security.routing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Equivalente reactivo de {@link RouteAuthorizationManager}: la regla se resuelve una vez por solicitud con
+ * {@link #resolve(ServerWebExchange)} y se guarda como atributo del intercambio.
+ */
+@RequiredArgsConstructor
+public class ReactiveRouteAuthorizationManager implements ReactiveAuthorizationManager<AuthorizationContext> {
+    /**
+     * Atributo del intercambio con la regla resuelta.
+     */
+    private static final String RULE_ATTRIBUTE = RouteRule.class.getName();
+
+    private static final Mono<AuthorizationResult> GRANTED = Mono.just(new AuthorizationDecision(true));
+    private static final AuthorizationResult DENIED = new AuthorizationDecision(false);
+
+    /**
+     * Reglas de acceso por ruta.
+     */
+    private final RouteRules routeRules;
+
+    /**
+     * Obtiene la regla de una solicitud, buscándola en la tabla solo la primera vez.
+     *
+     * @param exchange la solicitud y la respuesta HTTP.
+     * @return la regla de la solicitud.
+     */
+    public RouteRule resolve(ServerWebExchange exchange) {
+        RouteRule rule = exchange.getAttribute(RULE_ATTRIBUTE);
+        if (rule == null) {
+            rule = routeRules.match(exchange.getRequest().getMethod().name(),
+                    exchange.getRequest().getPath().pathWithinApplication().value());
+            exchange.getAttributes().put(RULE_ATTRIBUTE, rule);
+        }
+        return rule;
+    }
+
+    /**
+     * Decide el acceso a una solicitud; en las rutas públicas no se espera la autenticación.
+     *
+     * @param authentication la autenticación de la solicitud, vacía si no hay.
+     * @param context la solicitud.
+     * @return la decisión de acceso.
+     */
+    @Override
+    public Mono<AuthorizationResult> authorize(Mono<Authentication> authentication, AuthorizationContext context) {
+        RouteRule rule = resolve(context.getExchange());
+        if (rule.isPublic()) {
+            return GRANTED;
+        }
+        return authentication.<AuthorizationResult>map(value -> new AuthorizationDecision(rule.permits(value)))
+                .defaultIfEmpty(DENIED);
+    }
+
+    /**
+     * Método abstracto que Spring Security aún exige; delega en {@link #authorize(Mono, AuthorizationContext)}.
+     *
+     * @deprecated usar {@link #authorize(Mono, AuthorizationContext)}.
+     */
+    @Override
+    @Deprecated
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext context) {
+        return authorize(authentication, context).cast(AuthorizationDecision.class);
+    }
+}
@@ -0,0 +1,19 @@
+package com.rest.api.security.routing;
+
+/**
+ * Nivel de acceso que exige una ruta.
+ */
+public enum RouteAccess {
+    /**
+     * Ruta pública: no se procesa el token.
+     */
+    PUBLIC,
+    /**
+     * Ruta que exige un token válido.
+     */
+    AUTHENTICATED,
+    /**
+     * Ruta que exige un token válido de un usuario con un rol.
+     */
+    ROLE
+}
@@ -0,0 +1,80 @@
+package com.rest.api.security.routing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Autoriza las solicitudes de la pila servlet según {@link RouteRules}.
+ *
+ * <p>La regla se busca una sola vez por solicitud: el filtro JWT la resuelve con {@link #resolve(HttpServletRequest)}
+ * y la guarda como atributo de la solicitud, donde la encuentra la autorización.</p>
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+    /**
+     * Atributo de la solicitud con la regla resuelta.
+     */
+    private static final String RULE_ATTRIBUTE = RouteRule.class.getName();
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    /**
+     * Reglas de acceso por ruta.
+     */
+    private final RouteRules routeRules;
+
+    /**
+     * Obtiene la regla de una solicitud, buscándola en la tabla solo la primera vez.
+     *
+     * @param request la solicitud HTTP.
+     * @return la regla de la solicitud.
+     */
+    public RouteRule resolve(HttpServletRequest request) {
+        RouteRule rule = (RouteRule) request.getAttribute(RULE_ATTRIBUTE);
+        if (rule == null) {
+            String path = request.getPathInfo() != null
+                    ? request.getServletPath() + request.getPathInfo()
+                    : request.getServletPath();
+            rule = routeRules.match(request.getMethod(), path);
+            request.setAttribute(RULE_ATTRIBUTE, rule);
+        }
+        return rule;
+    }
+
+    /**
+     * Decide el acceso a una solicitud; en las rutas públicas no se consulta la autenticación.
+     *
+     * @param authentication proveedor de la autenticación de la solicitud.
+     * @param context la solicitud.
+     * @return la decisión de acceso.
+     */
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        RouteRule rule = resolve(context.getRequest());
+        return rule.isPublic() || rule.permits(authentication.get()) ? GRANTED : DENIED;
+    }
+
+    /**
+     * Método abstracto que Spring Security aún exige; delega en {@link #authorize(Supplier, RequestAuthorizationContext)}.
+     *
+     * @deprecated usar {@link #authorize(Supplier, RequestAuthorizationContext)}.
+     */
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        RouteRule rule = resolve(context.getRequest());
+        return rule.isPublic() || rule.permits(authentication.get()) ? GRANTED : DENIED;
+    }
+}
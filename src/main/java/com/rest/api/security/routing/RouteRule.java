@@ -0,0 +1,71 @@
+package com.rest.api.security.routing;
+
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Regla de acceso de una ruta.
+ *
+ * @param access nivel de acceso exigido.
+ * @param authority autoridad exigida con {@link RouteAccess#ROLE}, por ejemplo {@code ROLE_ADMIN}; null en otro caso.
+ */
+public record RouteRule(RouteAccess access, String authority) {
+    /**
+     * Regla de las rutas públicas.
+     */
+    public static final RouteRule PUBLIC = new RouteRule(RouteAccess.PUBLIC, null);
+    /**
+     * Regla de las rutas que solo exigen autenticación.
+     */
+    public static final RouteRule AUTHENTICATED = new RouteRule(RouteAccess.AUTHENTICATED, null);
+
+    /**
+     * Distingue la autenticación anónima de la autenticación con token.
+     */
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    /**
+     * Crea la regla de las rutas que exigen un rol.
+     *
+     * @param role el rol, sin el prefijo {@code ROLE_}.
+     * @return la regla.
+     */
+    public static RouteRule role(String role) {
+        return new RouteRule(RouteAccess.ROLE, "ROLE_" + role);
+    }
+
+    /**
+     * Indica si la ruta es pública y la solicitud no necesita procesar el token.
+     *
+     * @return true si la ruta es pública.
+     */
+    public boolean isPublic() {
+        return access == RouteAccess.PUBLIC;
+    }
+
+    /**
+     * Decide si una autenticación cumple la regla.
+     *
+     * @param authentication la autenticación de la solicitud, o null si no hay.
+     * @return true si el acceso está permitido.
+     */
+    public boolean permits(Authentication authentication) {
+        if (access == RouteAccess.PUBLIC) {
+            return true;
+        }
+        if (authentication == null || !authentication.isAuthenticated() || TRUST_RESOLVER.isAnonymous(authentication)) {
+            return false;
+        }
+        if (access == RouteAccess.AUTHENTICATED) {
+            return true;
+        }
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            if (authority.equals(granted.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,209 @@
+package com.rest.api.security.routing;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabla de reglas de acceso por ruta, precompilada en un árbol de prefijos por segmento de la ruta.
+ *
+ * <p>Cada solicitud recorre el árbol una sola vez, comparando los segmentos sobre la ruta original sin crear
+ * cadenas. Gana la regla más específica: la ruta exacta sobre un prefijo {@code /**}, el prefijo más largo sobre
+ * los más cortos y, en un mismo nodo, la regla del método HTTP sobre la de cualquier método. Si ninguna regla
+ * coincide se aplica la regla por defecto.</p>
+ *
+ * <p>Los patrones admiten segmentos literales y un {@code /**} final, que también coincide con el prefijo sin
+ * segmentos adicionales. Las instancias son inmutables una vez construidas.</p>
+ */
+public final class RouteRules {
+    /**
+     * Clave de las reglas que aplican a cualquier método HTTP.
+     */
+    private static final String ANY_METHOD = "*";
+
+    /**
+     * Raíz del árbol, corresponde a la ruta {@code /}.
+     */
+    private final Node root;
+    /**
+     * Regla de las rutas que no coinciden con ningún patrón.
+     */
+    private final RouteRule defaultRule;
+
+    private RouteRules(Node root, RouteRule defaultRule) {
+        this.root = root;
+        this.defaultRule = defaultRule;
+    }
+
+    /**
+     * Crea un constructor de la tabla de reglas.
+     *
+     * @return el constructor.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Busca la regla de una solicitud.
+     *
+     * @param method el método HTTP de la solicitud.
+     * @param path la ruta de la solicitud dentro de la aplicación, sin parámetros de consulta.
+     * @return la regla más específica que coincide, o la regla por defecto.
+     */
+    public RouteRule match(String method, String path) {
+        Node node = root;
+        RouteRule prefixRule = root.prefixRule(method);
+        int length = path.length();
+        int start = 0;
+        while (true) {
+            // Los separadores repetidos o finales no forman segmentos
+            while (start < length && path.charAt(start) == '/') {
+                start++;
+            }
+            if (start == length) {
+                break;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.child(path, start, end);
+            if (node == null) {
+                return prefixRule != null ? prefixRule : defaultRule;
+            }
+            RouteRule rule = node.prefixRule(method);
+            if (rule != null) {
+                prefixRule = rule;
+            }
+            start = end;
+        }
+        RouteRule exactRule = node.exactRule(method);
+        if (exactRule != null) {
+            return exactRule;
+        }
+        return prefixRule != null ? prefixRule : defaultRule;
+    }
+
+    /**
+     * Nodo del árbol: un segmento de la ruta con sus reglas exactas y de prefijo por método.
+     */
+    private static final class Node {
+        private final String segment;
+        private final List<Node> children = new ArrayList<>();
+        private final Map<String, RouteRule> exactRules = new HashMap<>();
+        private final Map<String, RouteRule> prefixRules = new HashMap<>();
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node child(String path, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < children.size(); i++) {
+                Node child = children.get(i);
+                if (child.segment.length() == length && path.regionMatches(start, child.segment, 0, length)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(String segment) {
+            Node child = child(segment, 0, segment.length());
+            if (child == null) {
+                child = new Node(segment);
+                children.add(child);
+            }
+            return child;
+        }
+
+        private RouteRule exactRule(String method) {
+            return exactRules.isEmpty() ? null : rule(exactRules, method);
+        }
+
+        private RouteRule prefixRule(String method) {
+            return prefixRules.isEmpty() ? null : rule(prefixRules, method);
+        }
+
+        private static RouteRule rule(Map<String, RouteRule> rules, String method) {
+            RouteRule rule = rules.get(method);
+            return rule != null ? rule : rules.get(ANY_METHOD);
+        }
+    }
+
+    /**
+     * Constructor de {@link RouteRules}; el orden en que se agregan las reglas no importa.
+     */
+    public static final class Builder {
+        private final Node root = new Node("");
+        private RouteRule defaultRule = RouteRule.AUTHENTICATED;
+
+        private Builder() {
+        }
+
+        /**
+         * Agrega una regla para cualquier método HTTP.
+         *
+         * @param pattern el patrón de la ruta, por ejemplo {@code /api/**}.
+         * @param rule la regla.
+         * @return este constructor.
+         */
+        public Builder route(String pattern, RouteRule rule) {
+            return route(null, pattern, rule);
+        }
+
+        /**
+         * Agrega una regla para un método HTTP.
+         *
+         * @param method el método HTTP, o null para cualquier método.
+         * @param pattern el patrón de la ruta, por ejemplo {@code /auth/**}.
+         * @param rule la regla.
+         * @return este constructor.
+         * @throws IllegalArgumentException si el patrón no es válido o repite una regla ya agregada.
+         */
+        public Builder route(HttpMethod method, String pattern, RouteRule rule) {
+            if (!pattern.startsWith("/")) {
+                throw new IllegalArgumentException("El patrón debe comenzar con /: " + pattern);
+            }
+            String[] segments = pattern.substring(1).split("/");
+            boolean prefix = segments[segments.length - 1].equals("**");
+            Node node = root;
+            for (int i = 0; i < segments.length - (prefix ? 1 : 0); i++) {
+                String segment = segments[i];
+                if (segment.isEmpty() || segment.contains("*")) {
+                    throw new IllegalArgumentException("Solo se admiten segmentos literales y un /** final: " + pattern);
+                }
+                node = node.childOrCreate(segment);
+            }
+            Map<String, RouteRule> rules = prefix ? node.prefixRules : node.exactRules;
+            if (rules.putIfAbsent(method != null ? method.name() : ANY_METHOD, rule) != null) {
+                throw new IllegalArgumentException("Regla repetida para " + pattern);
+            }
+            return this;
+        }
+
+        /**
+         * Define la regla de las rutas que no coinciden con ningún patrón; por defecto exige autenticación.
+         *
+         * @param rule la regla.
+         * @return este constructor.
+         */
+        public Builder defaultRule(RouteRule rule) {
+            this.defaultRule = rule;
+            return this;
+        }
+
+        /**
+         * Construye la tabla de reglas. El constructor no debe usarse después.
+         *
+         * @return la tabla de reglas.
+         */
+        public RouteRules build() {
+            return new RouteRules(root, defaultRule);
+        }
+    }
+}
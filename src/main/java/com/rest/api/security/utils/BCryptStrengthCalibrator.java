@@ -0,0 +1,55 @@
+package com.rest.api.security.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Calcula el factor de trabajo de BCrypt adecuado para el hardware actual.
+ *
+ * <p>Mide el tiempo de cifrado con un factor bajo y, como cada incremento del factor duplica el costo,
+ * elige el mayor factor cuyo tiempo estimado no supera el objetivo, dentro de los límites indicados.</p>
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+    /**
+     * Factor de trabajo usado para medir; es lo bastante bajo para no retrasar el arranque.
+     */
+    private static final int PROBE_STRENGTH = 8;
+
+    /**
+     * Número de mediciones; se usa la más rápida para descartar el calentamiento de la JVM.
+     */
+    private static final int PROBE_ROUNDS = 5;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * Calcula el factor de trabajo para un tiempo objetivo por cifrado.
+     *
+     * @param targetMillis tiempo objetivo por cifrado en milisegundos.
+     * @param minStrength factor mínimo permitido, nunca se baja de este valor.
+     * @param maxStrength factor máximo permitido.
+     * @return el factor de trabajo calibrado.
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        long fastestNanos = Long.MAX_VALUE;
+        for (int round = 0; round < PROBE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            probe.encode("calibracion");
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+        }
+
+        long targetNanos = targetMillis * 1_000_000L;
+        int strength = PROBE_STRENGTH;
+        long estimatedNanos = fastestNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        strength = Math.max(minStrength, Math.min(maxStrength, strength));
+        log.info("Factor de trabajo BCrypt calibrado a {} para un objetivo de {} ms", strength, targetMillis);
+        return strength;
+    }
+}
@@ -0,0 +1,136 @@
+package com.rest.api.security.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Verificador de tokens para otros servicios, a partir de las claves públicas publicadas en el JWKS.
+ *
+ * <p>Los verificadores se construyen una vez por clave y se guardan por {@code kid}; cada token se verifica
+ * localmente, sin llamar a la API. El JWKS solo se vuelve a descargar cuando llega un {@code kid} desconocido
+ * (por ejemplo tras una rotación), como máximo una vez por intervalo, para que tokens con identificadores
+ * inventados no generen una descarga por solicitud.</p>
+ */
+@Slf4j
+public class JwksTokenVerifier {
+
+    private final Supplier<String> jwksSource;
+    private final long minRefreshIntervalNanos;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Object refreshLock = new Object();
+
+    /**
+     * Verificadores por identificador de clave; se reemplaza completo en cada descarga.
+     */
+    private volatile Map<String, JWTVerifier> verifiers = Map.of();
+
+    /**
+     * Instante ({@link System#nanoTime()}) de la última descarga.
+     */
+    private long lastRefresh;
+
+    /**
+     * Construye el verificador.
+     *
+     * @param jwksSource devuelve el documento JWKS en JSON.
+     * @param minRefreshInterval tiempo mínimo entre dos descargas del JWKS.
+     */
+    public JwksTokenVerifier(Supplier<String> jwksSource, Duration minRefreshInterval) {
+        this.jwksSource = jwksSource;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.lastRefresh = System.nanoTime() - minRefreshIntervalNanos;
+    }
+
+    /**
+     * Construye un verificador que descarga el JWKS por HTTP.
+     *
+     * @param jwksUri dirección del JWKS, por ejemplo {@code https://api/.well-known/jwks.json}.
+     * @param minRefreshInterval tiempo mínimo entre dos descargas del JWKS.
+     * @return el verificador.
+     */
+    public static JwksTokenVerifier fromUri(URI jwksUri, Duration minRefreshInterval) {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(jwksUri).timeout(Duration.ofSeconds(5)).GET().build();
+        return new JwksTokenVerifier(() -> {
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new UncheckedIOException(new IOException("JWKS respondió " + response.statusCode()));
+                }
+                return response.body();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }, minRefreshInterval);
+    }
+
+    /**
+     * Verifica un token con la clave pública indicada en su cabecera {@code kid}.
+     *
+     * @param token el token JWT.
+     * @return el {@link VerifiedToken}, o null si el token no es válido o su clave no está publicada.
+     */
+    public VerifiedToken verify(String token) {
+        try {
+            DecodedJWT decodedJWT = JWT.decode(token);
+            String keyId = decodedJWT.getKeyId();
+            if (keyId == null) {
+                return null;
+            }
+            JWTVerifier verifier = verifiers.get(keyId);
+            if (verifier == null) {
+                verifier = refresh(keyId);
+                if (verifier == null) {
+                    return null;
+                }
+            }
+            return VerifiedToken.of(verifier.verify(decodedJWT));
+        } catch (JWTVerificationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Descarga el JWKS si no se hizo dentro del intervalo mínimo y devuelve el verificador de la clave.
+     */
+    private JWTVerifier refresh(String keyId) {
+        synchronized (refreshLock) {
+            JWTVerifier verifier = verifiers.get(keyId);
+            if (verifier != null || System.nanoTime() - lastRefresh < minRefreshIntervalNanos) {
+                return verifier;
+            }
+            lastRefresh = System.nanoTime();
+            try {
+                Map<String, JWTVerifier> loaded = new HashMap<>();
+                for (JsonNode jwk : objectMapper.readTree(jwksSource.get()).path("keys")) {
+                    JwtAlgorithm algorithm = JwtAlgorithm.valueOf(jwk.path("alg").asText());
+                    loaded.put(jwk.path("kid").asText(),
+                            JWT.require(algorithm.algorithm(JwtKeys.fromJwk(jwk), null)).build());
+                }
+                verifiers = Map.copyOf(loaded);
+            } catch (IOException | RuntimeException e) {
+                log.warn("No se pudo actualizar el JWKS, se conservan las claves anteriores", e);
+            }
+            return verifiers.get(keyId);
+        }
+    }
+}
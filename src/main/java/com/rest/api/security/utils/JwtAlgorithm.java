@@ -0,0 +1,73 @@
+package com.rest.api.security.utils;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * Algoritmos de firma admitidos para los tokens de acceso.
+ *
+ * <p>Con {@link #ES256} y {@link #RS256} solo este servicio conoce la clave privada; cualquier otro servicio
+ * verifica los tokens con la clave pública publicada en el JWKS. {@link #HS512} usa un secreto compartido.</p>
+ */
+public enum JwtAlgorithm {
+    /**
+     * HMAC con SHA-512 y secreto compartido.
+     */
+    HS512(null),
+    /**
+     * RSA PKCS#1 v1.5 con SHA-256.
+     */
+    RS256("RSA"),
+    /**
+     * ECDSA sobre P-256 con SHA-256; firmas y claves más pequeñas y firma más rápida que RSA.
+     */
+    ES256("EC");
+
+    /**
+     * Tipo de clave de JCA y del campo {@code kty} del JWK, null para los algoritmos simétricos.
+     */
+    private final String keyType;
+
+    JwtAlgorithm(String keyType) {
+        this.keyType = keyType;
+    }
+
+    /**
+     * Indica si el algoritmo usa un par de claves.
+     *
+     * @return true para RS256 y ES256.
+     */
+    public boolean isAsymmetric() {
+        return keyType != null;
+    }
+
+    /**
+     * Devuelve el tipo de clave.
+     *
+     * @return {@code RSA} o {@code EC}, null para HS512.
+     */
+    public String keyType() {
+        return keyType;
+    }
+
+    /**
+     * Construye el algoritmo de firma de un par de claves.
+     *
+     * @param publicKey la clave pública.
+     * @param privateKey la clave privada, null si solo se usa para verificar.
+     * @return el algoritmo listo para firmar o verificar.
+     */
+    public Algorithm algorithm(PublicKey publicKey, PrivateKey privateKey) {
+        return switch (this) {
+            case RS256 -> Algorithm.RSA256((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+            case ES256 -> Algorithm.ECDSA256((ECPublicKey) publicKey, (ECPrivateKey) privateKey);
+            case HS512 -> throw new IllegalStateException("HS512 usa un secreto compartido, no un par de claves");
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.rest.api.security.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lectura de claves desde la configuración y conversión entre claves públicas y JWK (RFC 7517).
+ */
+public final class JwtKeys {
+    /**
+     * Longitud en bytes de cada coordenada de un punto de P-256.
+     */
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    private JwtKeys() {
+    }
+
+    /**
+     * Lee una clave privada PKCS#8 codificada en base64.
+     *
+     * @param algorithm el algoritmo de la clave.
+     * @param encoded la clave en base64, con o sin saltos de línea.
+     * @return la clave privada.
+     */
+    public static PrivateKey privateKey(JwtAlgorithm algorithm, String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm.keyType())
+                    .generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Clave privada " + algorithm + " inválida, se espera PKCS#8 en base64", e);
+        }
+    }
+
+    /**
+     * Lee una clave pública X.509 codificada en base64.
+     *
+     * @param algorithm el algoritmo de la clave.
+     * @param encoded la clave en base64, con o sin saltos de línea.
+     * @return la clave pública.
+     */
+    public static PublicKey publicKey(JwtAlgorithm algorithm, String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm.keyType())
+                    .generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Clave pública " + algorithm + " inválida, se espera X.509 en base64", e);
+        }
+    }
+
+    /**
+     * Convierte una clave pública en un JWK.
+     *
+     * @param keyId identificador de la clave ({@code kid}).
+     * @param algorithm el algoritmo de la clave.
+     * @param publicKey la clave pública.
+     * @return los campos del JWK.
+     */
+    public static Map<String, String> toJwk(String keyId, JwtAlgorithm algorithm, PublicKey publicKey) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", algorithm.keyType());
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.name());
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ecPublicKey.getW().getAffineX(), P256_COORDINATE_BYTES));
+            jwk.put("y", base64Url(ecPublicKey.getW().getAffineY(), P256_COORDINATE_BYTES));
+        } else {
+            RSAPublicKey rsaPublicKey = (RSAPublicKey) publicKey;
+            jwk.put("n", base64Url(rsaPublicKey.getModulus(), 0));
+            jwk.put("e", base64Url(rsaPublicKey.getPublicExponent(), 0));
+        }
+        return jwk;
+    }
+
+    /**
+     * Convierte un JWK de tipo {@code EC} (P-256) o {@code RSA} en una clave pública.
+     *
+     * @param jwk el JWK.
+     * @return la clave pública.
+     * @throws IllegalArgumentException si el tipo o la curva no están admitidos.
+     */
+    public static PublicKey fromJwk(JsonNode jwk) {
+        try {
+            String keyType = jwk.path("kty").asText();
+            if ("EC".equals(keyType)) {
+                if (!"P-256".equals(jwk.path("crv").asText())) {
+                    throw new IllegalArgumentException("Curva no admitida: " + jwk.path("crv").asText());
+                }
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec("secp256r1"));
+                ECPoint point = new ECPoint(unsigned(jwk, "x"), unsigned(jwk, "y"));
+                return KeyFactory.getInstance("EC").generatePublic(
+                        new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+            }
+            if ("RSA".equals(keyType)) {
+                return KeyFactory.getInstance("RSA").generatePublic(
+                        new RSAPublicKeySpec(unsigned(jwk, "n"), unsigned(jwk, "e")));
+            }
+            throw new IllegalArgumentException("Tipo de clave no admitido: " + keyType);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("JWK inválido", e);
+        }
+    }
+
+    /**
+     * Codifica un entero sin signo en base64url, rellenado a la longitud indicada (0 para la mínima).
+     */
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static BigInteger unsigned(JsonNode jwk, String field) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path(field).asText()));
+    }
+}
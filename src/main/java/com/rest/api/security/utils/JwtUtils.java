@@ -1,55 +1,209 @@
 package com.rest.api.security.utils;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.rest.api.persistence.entity.Role;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.security.PublicKey;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Clase de utilidad para la generación y validación de tokens JWT.
+ *
+ * <p>El algoritmo de firma y los verificadores se construyen una sola vez al iniciar la aplicación
+ * y se reutilizan en todas las solicitudes; ambos son inmutables y seguros entre hilos.</p>
+ *
+ * <p>Admite rotación de claves: los tokens se firman con la clave actual e incluyen su identificador
+ * en la cabecera {@code kid}. Las claves anteriores solo se usan para verificar tokens emitidos
+ * antes de la rotación.</p>
+ *
+ * <p>Con {@link JwtAlgorithm#ES256} o {@link JwtAlgorithm#RS256} las claves públicas se publican con
+ * {@link #jwks()}, de modo que otros servicios verifican los tokens sin conocer la clave privada.</p>
  */
 @Component
 public class JwtUtils {
     /**
-     * Clave secreta para firmar y verificar los tokens JWT.
+     * Nombre del claim que contiene el nombre de usuario.
      */
-    @Value("${security.jwt.key.private}")
-    private String SECRET_KEY;
+    static final String USERNAME_CLAIM = "username";
 
     /**
-     * Tiempo de expiración del token en milisegundos se establece 30 minutos.
+     * Nombre del claim que contiene los roles del usuario como máscara de bits de {@link Role}.
      */
-    private static final long EXPIRATION_TIME = 1800000;
+    static final String ROLES_CLAIM = "roles";
 
     /**
-     * Genera un token JWT.
+     * Tiempo de expiración del token de acceso en milisegundos.
+     */
+    private final long expirationTime;
+
+    /**
+     * Identificador de la clave actual, se incluye en la cabecera {@code kid} de los tokens generados.
+     */
+    private final String currentKeyId;
+
+    /**
+     * Algoritmo de firma construido con la clave actual.
+     */
+    private final Algorithm signingAlgorithm;
+
+    /**
+     * Verificadores por identificador de clave (actual y anteriores).
+     */
+    private final Map<String, JWTVerifier> verifiers;
+
+    /**
+     * JWK de las claves públicas (actual y anteriores), vacío con HS512.
+     */
+    private final List<Map<String, String>> jwks;
+
+    /**
+     * Construye el motor de tokens a partir de la configuración.
+     *
+     * @param algorithm algoritmo de firma.
+     * @param privateKey con HS512, el secreto compartido; con ES256 o RS256, la clave privada PKCS#8 en base64.
+     * @param publicKey clave pública X.509 en base64 de la clave actual, ignorada con HS512.
+     * @param keyId identificador de la clave actual.
+     * @param previousKeys claves anteriores aceptadas para verificación, con formato {@code kid:clave}
+     *                     (el secreto con HS512, la clave pública en base64 con ES256 o RS256).
+     * @param expirationTime tiempo de expiración del token de acceso en milisegundos.
+     */
+    public JwtUtils(@Value("${security.jwt.algorithm:ES256}") JwtAlgorithm algorithm,
+                    @Value("${security.jwt.key.private}") String privateKey,
+                    @Value("${security.jwt.key.public:}") String publicKey,
+                    @Value("${security.jwt.key.id:default}") String keyId,
+                    @Value("${security.jwt.key.previous:}") List<String> previousKeys,
+                    @Value("${security.jwt.access-token.expiration-ms:900000}") long expirationTime) {
+        if (privateKey.isBlank()) {
+            throw new IllegalArgumentException(
+                    "Falta la clave de firma de los tokens (security.jwt.key.private o JWT_PRIVATE_KEY)");
+        }
+        this.expirationTime = expirationTime;
+        this.currentKeyId = keyId;
+
+        Map<String, JWTVerifier> verifierMap = new HashMap<>();
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        if (algorithm.isAsymmetric()) {
+            PublicKey currentPublicKey = JwtKeys.publicKey(algorithm, publicKey);
+            this.signingAlgorithm = algorithm.algorithm(currentPublicKey, JwtKeys.privateKey(algorithm, privateKey));
+            publicKeys.put(keyId, currentPublicKey);
+        } else {
+            this.signingAlgorithm = Algorithm.HMAC512(privateKey);
+        }
+
+        for (String previousKey : previousKeys) {
+            int separator = previousKey.indexOf(':');
+            if (separator <= 0 || separator == previousKey.length() - 1) {
+                throw new IllegalArgumentException("Formato de clave anterior inválido, se espera kid:clave");
+            }
+            String previousKeyId = previousKey.substring(0, separator).trim();
+            String previousValue = previousKey.substring(separator + 1).trim();
+            if (algorithm.isAsymmetric()) {
+                PublicKey previousPublicKey = JwtKeys.publicKey(algorithm, previousValue);
+                publicKeys.put(previousKeyId, previousPublicKey);
+                verifierMap.put(previousKeyId, JWT.require(algorithm.algorithm(previousPublicKey, null)).build());
+            } else {
+                verifierMap.put(previousKeyId, JWT.require(Algorithm.HMAC512(previousValue)).build());
+            }
+        }
+        verifierMap.put(keyId, JWT.require(signingAlgorithm).build());
+        this.verifiers = Map.copyOf(verifierMap);
+
+        List<Map<String, String>> jwkList = new ArrayList<>();
+        publicKeys.forEach((id, key) -> jwkList.add(JwtKeys.toJwk(id, algorithm, key)));
+        this.jwks = List.copyOf(jwkList);
+
+        // Un par de claves inconsistente o de otra curva solo se notaría al fallar todos los inicios de sesión
+        try {
+            if (validateToken(generateToken("verificacion")) == null) {
+                throw new IllegalArgumentException("La clave pública no corresponde a la clave privada");
+            }
+        } catch (JWTCreationException e) {
+            throw new IllegalArgumentException("La clave privada no es válida para " + algorithm, e);
+        }
+    }
+
+    /**
+     * Genera un token JWT para un usuario con el rol {@link Role#USER}.
      *
      * @param username el nombre de usuario que se incluirá en el token.
      * @return devuelve un token JWT generado.
      */
     public String generateToken(String username) {
+        return generateToken(username, Role.USER.mask());
+    }
+
+    /**
+     * Genera un token JWT.
+     *
+     * <p>Cada token incluye un identificador único ({@code jti}) que permite revocarlo antes de su expiración, y los
+     * roles del usuario como un entero, para autorizar las solicitudes sin consultar la base de datos.</p>
+     *
+     * @param username el nombre de usuario que se incluirá en el token.
+     * @param roles los roles del usuario como máscara de bits de {@link Role}.
+     * @return devuelve un token JWT generado.
+     */
+    public String generateToken(String username, int roles) {
         return JWT.create()
-                .withClaim("username", username)
-                .withExpiresAt(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .sign(Algorithm.HMAC512(SECRET_KEY));
+                .withKeyId(currentKeyId)
+                .withJWTId(UUID.randomUUID().toString())
+                .withClaim(USERNAME_CLAIM, username)
+                .withClaim(ROLES_CLAIM, roles)
+                .withExpiresAt(new Date(System.currentTimeMillis() + expirationTime))
+                .sign(signingAlgorithm);
     }
     /**
      * Valida un token JWT.
+     *
      * @param token el token JWT que se desea validar.
      * @return el nombre de usuario contenido en el token si es válido de lo contrario un null
      */
     public String validateToken(String token) {
+        VerifiedToken verifiedToken = verifyToken(token);
+        return verifiedToken != null ? verifiedToken.username() : null;
+    }
+
+    /**
+     * Verifica un token JWT y devuelve los datos necesarios para autenticar la solicitud.
+     *
+     * <p>El verificador se elige según la cabecera {@code kid}; los tokens sin {@code kid}
+     * se verifican con la clave actual.</p>
+     *
+     * @param token el token JWT que se desea verificar.
+     * @return el {@link VerifiedToken} con el usuario, los roles y la expiración, o null si el token no es válido.
+     */
+    public VerifiedToken verifyToken(String token) {
         try {
-            DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(SECRET_KEY))
-                    .build()
-                    .verify(token);
-            return decodedJWT.getClaim("username").asString();
+            DecodedJWT decodedJWT = JWT.decode(token);
+            String keyId = decodedJWT.getKeyId();
+            JWTVerifier verifier = verifiers.get(keyId != null ? keyId : currentKeyId);
+            if (verifier == null) {
+                return null;
+            }
+            return VerifiedToken.of(verifier.verify(decodedJWT));
         } catch (JWTVerificationException e) {
             return null;
         }
     }
+
+    /**
+     * Devuelve las claves públicas de verificación como JWK.
+     *
+     * @return los JWK de la clave actual y las anteriores; vacío con HS512, cuyo secreto no se publica.
+     */
+    public List<Map<String, String>> jwks() {
+        return jwks;
+    }
 }
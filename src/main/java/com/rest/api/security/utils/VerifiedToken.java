@@ -0,0 +1,35 @@
+package com.rest.api.security.utils;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.rest.api.persistence.entity.Role;
+
+import java.util.Date;
+
+/**
+ * Datos extraídos de un token JWT cuya firma y expiración ya fueron verificadas.
+ *
+ * @param username nombre de usuario contenido en el token.
+ * @param tokenId identificador único del token ({@code jti}), null en tokens emitidos antes de incluirlo.
+ * @param expiresAtMillis instante de expiración del token ({@code exp}) en milisegundos.
+ * @param roles roles del usuario como máscara de bits de {@link Role}; {@link Role#USER} en tokens emitidos antes de
+ *              incluirlos.
+ */
+public record VerifiedToken(String username, String tokenId, long expiresAtMillis, int roles) {
+
+    /**
+     * Extrae los datos de un token ya verificado.
+     *
+     * @param verifiedJWT el token con la firma y la expiración verificadas.
+     * @return los datos del token, o null si le falta el usuario o la expiración.
+     */
+    static VerifiedToken of(DecodedJWT verifiedJWT) {
+        String username = verifiedJWT.getClaim(JwtUtils.USERNAME_CLAIM).asString();
+        Date expiresAt = verifiedJWT.getExpiresAt();
+        if (username == null || expiresAt == null) {
+            return null;
+        }
+        Integer roles = verifiedJWT.getClaim(JwtUtils.ROLES_CLAIM).asInt();
+        return new VerifiedToken(username, verifiedJWT.getId(), expiresAt.getTime(),
+                roles != null ? roles : Role.USER.mask());
+    }
+}
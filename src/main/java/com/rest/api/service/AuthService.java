@@ -1,81 +1,151 @@
 package com.rest.api.service;
 
 import com.rest.api.exception.AlreadyExistsException;
+import com.rest.api.exception.ServiceUnavailableException;
 import com.rest.api.exception.UnauthorizedException;
 import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.projection.UserCredentials;
 import com.rest.api.persistence.repository.IUserRepository;
 import com.rest.api.presentation.dto.TokenResponseDTO;
 import com.rest.api.presentation.dto.UserDTO;
-import com.rest.api.security.utils.JwtUtils;
+import com.rest.api.security.cache.VerifiedTokenCache;
+import com.rest.api.security.revocation.TokenRevocationService;
+import com.rest.api.security.utils.VerifiedToken;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Servicio para manejar la lógica de negocio relacionada con registro e inicio de sesión.
+ *
+ * <p>El cifrado y la verificación de contraseñas se delegan a {@link PasswordHashingService}, por lo que
+ * los métodos devuelven un {@link CompletableFuture} que se completa en el pool de cifrado.</p>
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final IUserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtUtils jwtUtils;
+    private final PasswordHashingService passwordHashingService;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * Registra un nuevo usuario en el sistema.
      *
+     * <p>El registro se resuelve con una sola escritura: se intenta insertar el usuario y, si el nombre de usuario
+     * ya existe, la restricción única de la columna {@code username} rechaza la inserción. Así no hay una consulta
+     * previa ni una ventana de carrera entre la comprobación y el guardado. Solo la violación de una restricción única
+     * se informa como usuario existente; las demás se propagan.</p>
+     *
      * @param userDto A {@link UserDTO} Objeto que contiene la información del usuario para el registro.
      * @return Mensaje de registro con exito {@link AlreadyExistsException} lanza un error si ya existe un usuario
      * @throws AlreadyExistsException error si existe un usuario con el nombre de usuario proporcionado
+     * @throws ServiceUnavailableException si la cola de cifrado de contraseñas está llena
      */
-    public String register(UserDTO userDto) {
-        /**
-         *Intenta encontrar un usuario con el nombre de usuario en la base de datos, si se encuentra produce una exception AlreadyExistsException
-         */
-        Optional<UserEntity> findUser = userRepository.findByUsername(userDto.getUsername());
-        if(findUser.isPresent()){
-            throw new AlreadyExistsException("Usuario ya existe");
-        }
-        /**
-         * Crea un nuevo objeto UserEntity y establece el nombre de usuario y contraseña a partir del UserDTO.
-         * Se codifica la contraseña mediante passwordEncoder.
-         */
-        UserEntity userEntity = new UserEntity();
-        userEntity.setUsername(userDto.getUsername());
-        userEntity.setPassword(userDto.getPassword());
-        userEntity.setPassword(passwordEncoder.encode(userDto.getPassword()));
-        /**
-         * Guarda el objeto UserEntity en la base de datos.
-         */
-        userRepository.save(userEntity);
-        /**
-         * Genera un token JWT utilizando jwtUtils con el nombre de usuario del usuario registrado.
-         */
-        String token = jwtUtils.generateToken(userEntity.getUsername());
-        /**
-         * Devuelve un mensaje de éxito.
-         */
-        return "Usuario registrado con éxito";
+    public CompletableFuture<String> register(UserDTO userDto) {
+        return passwordHashingService.encode(userDto.getPassword()).thenApply(encodedPassword -> {
+            UserEntity userEntity = new UserEntity(null, userDto.getUsername(), encodedPassword);
+            try {
+                userRepository.save(userEntity);
+            } catch (DataIntegrityViolationException exception) {
+                if (isDuplicateKey(exception)) {
+                    throw new AlreadyExistsException("Usuario ya existe");
+                }
+                throw exception;
+            }
+            return "Usuario registrado con éxito";
+        });
     }
 
     /**
-     * Autentica a un usuario y genera un token JWT.
+     * Autentica a un usuario y genera un token JWT de corta duración y un token de actualización.
+     *
+     * <p>Si la contraseña almacenada usa un algoritmo o costo anterior, se vuelve a cifrar en segundo plano
+     * con la configuración actual, sin retrasar la respuesta.</p>
      *
      * @param userDto Un objeto {@link UserDTO} que contiene las credenciales del usuario.
-     * @return Un objeto {@link TokenResponseDTO} que contiene el token JWT.
+     * @return Un objeto {@link TokenResponseDTO} que contiene el token JWT y el token de actualización.
      * @throws UnauthorizedException si las credenciales proporcionadas no son válidas.
+     * @throws ServiceUnavailableException si la cola de cifrado de contraseñas está llena
      */
-    public TokenResponseDTO login(UserDTO userDto) {
-        Optional<UserEntity> user = userRepository.findByUsername(userDto.getUsername());
+    public CompletableFuture<TokenResponseDTO> login(UserDTO userDto) {
+        Optional<UserCredentials> user = userRepository.findCredentialsByUsername(userDto.getUsername());
 
-        if (user.isPresent() && passwordEncoder.matches(userDto.getPassword(), user.get().getPassword())) {
-            String token = jwtUtils.generateToken(user.get().getUsername());
-            return new TokenResponseDTO(token);
+        if (user.isEmpty()) {
+            throw new UnauthorizedException("Credenciales inválidas");
+        }
+
+        return passwordHashingService.matches(userDto.getPassword(), user.get().password()).thenApply(matches -> {
+            if (!matches) {
+                throw new UnauthorizedException("Credenciales inválidas");
+            }
+            if (passwordHashingService.upgradeEncoding(user.get().password())) {
+                rehashPassword(user.get().username(), userDto.getPassword());
+            }
+            return refreshTokenService.issue(user.get().username(), user.get().roles());
+        });
+    }
+
+    /**
+     * Cierra la sesión: revoca el token de acceso hasta su expiración y, si se indica, la familia del token de actualización.
+     *
+     * @param accessToken el token de acceso de la sesión.
+     * @param refreshToken el token de actualización de la sesión, puede ser null.
+     * @throws UnauthorizedException si el token de acceso no es válido.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        VerifiedToken verifiedToken = verifiedTokenCache.resolve(accessToken);
+        if (verifiedToken == null) {
+            throw new UnauthorizedException("Token inválido");
+        }
+        tokenRevocationService.revoke(verifiedToken);
+        verifiedTokenCache.invalidate(accessToken);
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
         }
+    }
+
+    /**
+     * Indica si una violación de integridad se debe a una clave duplicada: JDBC la traduce a
+     * {@link DuplicateKeyException} y JPA la informa como restricción única de Hibernate.
+     *
+     * @param exception la violación de integridad.
+     * @return true si se rechazó un valor repetido de una columna única.
+     */
+    static boolean isDuplicateKey(DataIntegrityViolationException exception) {
+        return exception instanceof DuplicateKeyException
+                || exception.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
 
-        throw new UnauthorizedException("Credenciales inválidas");
+    /**
+     * Vuelve a cifrar la contraseña de un usuario con el algoritmo y costo actuales y la guarda.
+     *
+     * <p>Si el pool de cifrado está saturado o el guardado falla, el hash se actualizará en el próximo
+     * inicio de sesión.</p>
+     *
+     * @param username el nombre de usuario autenticado.
+     * @param rawPassword la contraseña en texto plano ya verificada.
+     */
+    private void rehashPassword(String username, String rawPassword) {
+        try {
+            passwordHashingService.encode(rawPassword)
+                    .thenAccept(encodedPassword -> userRepository.updatePassword(username, encodedPassword))
+                    .exceptionally(exception -> {
+                        log.warn("No se pudo actualizar el hash de la contraseña de {}", username, exception);
+                        return null;
+                    });
+        } catch (ServiceUnavailableException exception) {
+            log.debug("Pool de cifrado saturado, se omite la actualización del hash de {}", username);
+        }
     }
 }
@@ -0,0 +1,176 @@
+package com.rest.api.service;
+
+import com.rest.api.exception.ServiceUnavailableException;
+import com.rest.api.observability.PhaseTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Servicio que ejecuta el cifrado y la verificación de contraseñas fuera de los hilos de las solicitudes.
+ *
+ * <p>Usa un pool de hilos del tamaño de los núcleos disponibles y una cola acotada; cuando la cola
+ * está llena rechaza el trabajo con {@link ServiceUnavailableException} en lugar de acumular solicitudes.</p>
+ *
+ * <p>Las etapas dependientes del resultado (guardado, generación del token) continúan fuera del pool de cifrado,
+ * también cuando el cifrado falla: en un hilo virtual con {@code spring.threads.virtual.enabled=true} o, en caso
+ * contrario, en un pool de hilos de plataforma del mismo tamaño y cola que el de cifrado. El hilo de cifrado queda
+ * libre en cuanto termina el hash y la E/S bloqueante de JDBC no reduce la capacidad de cifrado; si ese pool también
+ * se llena, la etapa se ejecuta en el hilo de cifrado, la cola de cifrado crece y las solicitudes nuevas reciben
+ * {@link ServiceUnavailableException} en lugar de abrir un hilo por cada hash terminado.</p>
+ *
+ * <p>Publica el tiempo en cola y el tiempo de cifrado en los timers {@code auth.password.queue}
+ * y {@code auth.password.hash}, etiquetados por operación. El cifrado se publica además como un span
+ * {@code password.encode} o {@code password.matches}, hijo del span de la solicitud aunque se ejecute en
+ * el pool.</p>
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Tracer tracer;
+
+    /**
+     * Ejecutor donde se completan los resultados y se ejecutan las etapas dependientes.
+     */
+    private final ExecutorService completionExecutor;
+
+    private final Timer encodeQueueTimer;
+    private final PhaseTimer encodePhase;
+    private final Timer matchesQueueTimer;
+    private final PhaseTimer matchesPhase;
+
+    /**
+     * Construye el servicio a partir de la configuración.
+     *
+     * @param passwordEncoder codificador de contraseñas.
+     * @param meterRegistry registro donde se publican las métricas.
+     * @param tracer trazador de las operaciones de cifrado.
+     * @param threads número de hilos de cifrado, por defecto el número de núcleos.
+     * @param queueCapacity número máximo de operaciones en espera.
+     * @param virtualThreads indica si las etapas dependientes continúan en hilos virtuales o de plataforma.
+     */
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  Tracer tracer,
+                                  @Value("${security.password.hashing.threads:0}") int threads,
+                                  @Value("${security.password.hashing.queue-capacity:100}") int queueCapacity,
+                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.tracer = tracer;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.completionExecutor = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory("password-completion-"),
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.encodeQueueTimer = timer(meterRegistry, "auth.password.queue", "encode");
+        this.encodePhase = PhaseTimer.of(meterRegistry, tracer, "auth.password.hash", "password.encode",
+                "operation", "encode");
+        this.matchesQueueTimer = timer(meterRegistry, "auth.password.queue", "matches");
+        this.matchesPhase = PhaseTimer.of(meterRegistry, tracer, "auth.password.hash", "password.matches",
+                "operation", "matches");
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Operaciones de cifrado en espera")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cifra una contraseña en el pool de cifrado.
+     *
+     * @param rawPassword la contraseña en texto plano.
+     * @return la contraseña cifrada.
+     * @throws ServiceUnavailableException si la cola de cifrado está llena.
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeQueueTimer, encodePhase);
+    }
+
+    /**
+     * Verifica una contraseña contra su versión cifrada en el pool de cifrado.
+     *
+     * @param rawPassword la contraseña en texto plano.
+     * @param encodedPassword la contraseña cifrada almacenada.
+     * @return true si la contraseña coincide.
+     * @throws ServiceUnavailableException si la cola de cifrado está llena.
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesQueueTimer, matchesPhase);
+    }
+
+    /**
+     * Indica si una contraseña cifrada debe volver a cifrarse con el algoritmo o costo actual.
+     *
+     * <p>No usa el pool de cifrado: solo inspecciona el prefijo y los parámetros del hash.</p>
+     *
+     * @param encodedPassword la contraseña cifrada almacenada.
+     * @return true si el hash usa un algoritmo o costo anterior.
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Detiene el pool de cifrado y el ejecutor de las etapas dependientes al cerrar la aplicación.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        completionExecutor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, Timer queueTimer, PhaseTimer hashPhase) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Span parent = tracer.currentSpan();
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                queueTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                Runnable completion;
+                // Cerrar la fase antes de completar: las etapas dependientes se ejecutan dentro de complete()
+                try (PhaseTimer.Phase phase = hashPhase.start(parent)) {
+                    try {
+                        T result = task.get();
+                        completion = () -> future.complete(result);
+                    } catch (RuntimeException e) {
+                        phase.error(e);
+                        completion = () -> future.completeExceptionally(e);
+                    }
+                }
+                completionExecutor.execute(completion);
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Servicio ocupado, intente más tarde");
+        }
+        return future;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,95 @@
+package com.rest.api.service;
+
+import com.rest.api.exception.AlreadyExistsException;
+import com.rest.api.exception.ServiceUnavailableException;
+import com.rest.api.exception.UnauthorizedException;
+import com.rest.api.persistence.projection.UserCredentials;
+import com.rest.api.persistence.repository.ReactiveUserRepository;
+import com.rest.api.presentation.dto.TokenResponseDTO;
+import com.rest.api.presentation.dto.UserDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Equivalente no bloqueante de {@link AuthService} para la pila reactiva.
+ *
+ * <p>Las consultas y escrituras de usuarios usan {@link ReactiveUserRepository}. El cifrado sigue en el pool acotado de
+ * {@link PasswordHashingService}, con la misma cola, el mismo rechazo con {@link ServiceUnavailableException} y las
+ * mismas métricas; ningún hilo del event loop ejecuta BCrypt. La emisión del token de actualización guarda en JPA,
+ * por lo que se ejecuta en el scheduler {@code boundedElastic}.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthService {
+
+    private final ReactiveUserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * Registra un nuevo usuario con una sola inserción; la restricción única de {@code username} rechaza los
+     * duplicados, que R2DBC traduce a {@link DuplicateKeyException}. Las demás violaciones se propagan.
+     *
+     * @param userDto objeto que contiene la información del usuario para el registro.
+     * @return el mensaje de registro con éxito.
+     * @throws AlreadyExistsException (como error del {@link Mono}) si ya existe un usuario con ese nombre.
+     * @throws ServiceUnavailableException (como error del {@link Mono}) si la cola de cifrado está llena.
+     */
+    public Mono<String> register(UserDTO userDto) {
+        return Mono.fromFuture(() -> passwordHashingService.encode(userDto.getPassword()))
+                .flatMap(encodedPassword -> userRepository.insert(userDto.getUsername(), encodedPassword))
+                .onErrorMap(DuplicateKeyException.class,
+                        exception -> new AlreadyExistsException("Usuario ya existe"))
+                .thenReturn("Usuario registrado con éxito");
+    }
+
+    /**
+     * Autentica a un usuario y genera un token JWT de corta duración y un token de actualización.
+     *
+     * <p>Si la contraseña almacenada usa un algoritmo o costo anterior, se vuelve a cifrar en segundo plano.</p>
+     *
+     * @param userDto objeto que contiene las credenciales del usuario.
+     * @return el token JWT y el token de actualización.
+     * @throws UnauthorizedException (como error del {@link Mono}) si las credenciales no son válidas.
+     * @throws ServiceUnavailableException (como error del {@link Mono}) si la cola de cifrado está llena.
+     */
+    public Mono<TokenResponseDTO> login(UserDTO userDto) {
+        return userRepository.findCredentialsByUsername(userDto.getUsername())
+                .switchIfEmpty(Mono.error(() -> new UnauthorizedException("Credenciales inválidas")))
+                .flatMap(user -> Mono.fromFuture(() ->
+                                passwordHashingService.matches(userDto.getPassword(), user.password()))
+                        .flatMap(matches -> {
+                            if (!matches) {
+                                return Mono.error(new UnauthorizedException("Credenciales inválidas"));
+                            }
+                            if (passwordHashingService.upgradeEncoding(user.password())) {
+                                rehashPassword(user, userDto.getPassword());
+                            }
+                            return Mono.fromCallable(() -> refreshTokenService.issue(user.username(), user.roles()))
+                                    .subscribeOn(Schedulers.boundedElastic());
+                        }));
+    }
+
+    /**
+     * Vuelve a cifrar la contraseña de un usuario con el algoritmo y costo actuales y la guarda, sin esperar el
+     * resultado. Si falla, el hash se actualizará en el próximo inicio de sesión.
+     */
+    private void rehashPassword(UserCredentials user, String rawPassword) {
+        Mono.fromFuture(() -> passwordHashingService.encode(rawPassword))
+                .flatMap(encodedPassword -> userRepository.updatePassword(user.username(), encodedPassword))
+                .subscribe(null, exception -> {
+                    if (exception instanceof ServiceUnavailableException) {
+                        log.debug("Pool de cifrado saturado, se omite la actualización del hash de {}", user.username());
+                    } else {
+                        log.warn("No se pudo actualizar el hash de la contraseña de {}", user.username(), exception);
+                    }
+                });
+    }
+}
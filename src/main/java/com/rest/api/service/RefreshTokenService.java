@@ -0,0 +1,140 @@
+package com.rest.api.service;
+
+import com.rest.api.exception.UnauthorizedException;
+import com.rest.api.persistence.entity.RefreshTokenEntity;
+import com.rest.api.persistence.repository.IRefreshTokenRepository;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.presentation.dto.TokenResponseDTO;
+import com.rest.api.security.utils.JwtUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Servicio para emitir, rotar y revocar tokens de actualización.
+ *
+ * <p>Los tokens de actualización son valores aleatorios opacos de larga duración. Cada uso devuelve un token de
+ * acceso nuevo y reemplaza el token de actualización por otro de la misma familia; si un token ya usado se
+ * presenta de nuevo se asume que fue robado y se revoca toda la familia. Ninguna operación cifra contraseñas.</p>
+ *
+ * <p>Al rotar, los roles del token de acceso se vuelven a leer de la base de datos, de modo que un cambio de roles
+ * se aplica como máximo al expirar el token de acceso vigente.</p>
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+    /**
+     * Bytes aleatorios de cada token, 256 bits.
+     */
+    private static final int TOKEN_BYTES = 32;
+
+    private final IRefreshTokenRepository refreshTokenRepository;
+    private final IUserRepository userRepository;
+    private final JwtUtils jwtUtils;
+    private final Duration timeToLive;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * Construye el servicio a partir de la configuración.
+     *
+     * @param refreshTokenRepository repositorio de tokens de actualización.
+     * @param userRepository repositorio de usuarios, para leer los roles al rotar.
+     * @param jwtUtils utilidad para generar los tokens de acceso.
+     * @param ttlSeconds duración de cada token de actualización en segundos.
+     */
+    public RefreshTokenService(IRefreshTokenRepository refreshTokenRepository,
+                               IUserRepository userRepository,
+                               JwtUtils jwtUtils,
+                               @Value("${security.jwt.refresh-token.ttl-seconds:2592000}") long ttlSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtUtils = jwtUtils;
+        this.timeToLive = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * Emite un token de acceso y un token de actualización de una familia nueva, después de iniciar sesión.
+     *
+     * @param username el nombre de usuario autenticado.
+     * @param roles los roles del usuario como máscara de bits.
+     * @return el token de acceso y el token de actualización.
+     */
+    @Transactional
+    public TokenResponseDTO issue(String username, int roles) {
+        return new TokenResponseDTO(jwtUtils.generateToken(username, roles), create(username, secureRandom.nextLong()));
+    }
+
+    /**
+     * Cambia un token de actualización por un token de acceso nuevo y un token de actualización nuevo.
+     *
+     * @param refreshToken el token de actualización presentado por el cliente.
+     * @return el token de acceso y el token de actualización que reemplaza al presentado.
+     * @throws UnauthorizedException si el token no existe, expiró o ya fue usado, o si el usuario ya no existe.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public TokenResponseDTO refresh(String refreshToken) {
+        RefreshTokenEntity current = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new UnauthorizedException("Token de actualización inválido"));
+
+        if (current.getExpiresAt().isBefore(Instant.now())) {
+            throw new UnauthorizedException("Token de actualización inválido");
+        }
+        if (refreshTokenRepository.markUsed(current.getId()) == 0) {
+            // El token ya se había usado: otro cliente tiene una copia, se revoca toda la familia
+            refreshTokenRepository.deleteByFamily(current.getFamilyId());
+            log.warn("Reutilización de token de actualización detectada para {}, familia revocada", current.getUsername());
+            throw new UnauthorizedException("Token de actualización inválido");
+        }
+        int roles = userRepository.findRolesByUsername(current.getUsername())
+                .orElseThrow(() -> new UnauthorizedException("Token de actualización inválido"));
+        return new TokenResponseDTO(jwtUtils.generateToken(current.getUsername(), roles),
+                create(current.getUsername(), current.getFamilyId()));
+    }
+
+    /**
+     * Revoca la familia de un token de actualización, por ejemplo al cerrar sesión.
+     *
+     * @param refreshToken el token de actualización presentado por el cliente.
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.deleteByFamily(token.getFamilyId()));
+    }
+
+    /**
+     * Elimina periódicamente los tokens expirados; los usados se conservan hasta expirar para detectar su reutilización.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.refresh-token.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private String create(String username, long familyId) {
+        byte[] token = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(token);
+        String encodedToken = Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+        refreshTokenRepository.save(new RefreshTokenEntity(
+                null, hash(encodedToken), familyId, username, Instant.now().plus(timeToLive), false));
+        return encodedToken;
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.rest.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.presentation.dto.ImportResultDTO;
+import com.rest.api.presentation.dto.ImportRowErrorDTO;
+import com.rest.api.presentation.dto.UserDTO;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servicio para la importación masiva de usuarios desde NDJSON o CSV.
+ *
+ * <p>El archivo se lee línea por línea y se procesa en lotes de tamaño fijo, por lo que la memoria usada no
+ * depende del tamaño del archivo. Por cada lote se descartan los nombres repetidos y los ya registrados con una
+ * sola consulta, las contraseñas se cifran en paralelo y los usuarios se insertan con un único lote JDBC.</p>
+ *
+ * <p>Las inserciones se hacen con {@link JdbcTemplate} porque {@code GenerationType.IDENTITY} impide que
+ * Hibernate agrupe las inserciones en lotes. Si el lote falla se reintenta fila por fila: una clave duplicada se
+ * informa como usuario existente y cualquier otra restricción rechazada por la base, como fila inválida.</p>
+ */
+@Service
+public class UserImportService {
+    /**
+     * Formatos de archivo admitidos.
+     */
+    public enum Format { NDJSON, CSV }
+
+    private static final String INSERT_USER = "insert into user (username, password) values (?, ?)";
+    private static final String SELECT_EXISTING = "select username from user where username in (:usernames)";
+    private static final String CSV_HEADER = "username,password";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    /**
+     * Pool para cifrar las contraseñas de cada lote en paralelo, separado del pool de inicio de sesión
+     * para que una importación no rechace los inicios de sesión con 503.
+     */
+    private final ExecutorService hashingExecutor;
+
+    /**
+     * Construye el servicio a partir de la configuración.
+     *
+     * @param jdbcTemplate plantilla JDBC para las inserciones en lote.
+     * @param namedParameterJdbcTemplate plantilla JDBC para consultar los usuarios existentes.
+     * @param transactionTemplate plantilla de transacción para confirmar cada lote por separado.
+     * @param passwordEncoder codificador de contraseñas.
+     * @param validator validador de las filas importadas.
+     * @param objectMapper lector de las filas NDJSON.
+     * @param batchSize número de filas por lote.
+     * @param hashingThreads hilos de cifrado, 0 para usar el número de núcleos.
+     * @param maxReportedErrors número máximo de errores detallados en la respuesta.
+     */
+    public UserImportService(JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             PasswordEncoder passwordEncoder,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${users.import.batch-size:500}") int batchSize,
+                             @Value("${users.import.hashing-threads:0}") int hashingThreads,
+                             @Value("${users.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.hashingExecutor = Executors.newFixedThreadPool(
+                hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors(),
+                new CustomizableThreadFactory("user-import-hashing-"));
+    }
+
+    /**
+     * Importa los usuarios contenidos en un archivo.
+     *
+     * @param inputStream contenido del archivo, una fila por línea en UTF-8.
+     * @param format formato del archivo.
+     * @return el resumen de la importación con el detalle de las filas omitidas.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    public ImportResultDTO importUsers(InputStream inputStream, Format format) throws IOException {
+        ImportResultDTO result = new ImportResultDTO(0, 0, 0, new ArrayList<>(), false);
+        List<Row> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (format == Format.CSV && lineNumber == 1 && line.trim().equalsIgnoreCase(CSV_HEADER))) {
+                    continue;
+                }
+                Row row = parse(line, lineNumber, format, result);
+                if (row != null) {
+                    batch.add(row);
+                    if (batch.size() == batchSize) {
+                        importBatch(batch, result);
+                        batch.clear();
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, result);
+        }
+        return result;
+    }
+
+    /**
+     * Detiene el pool de cifrado al cerrar la aplicación.
+     */
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    /**
+     * Convierte una línea en una fila válida, o registra el error y devuelve null.
+     */
+    private Row parse(String line, long lineNumber, Format format, ImportResultDTO result) {
+        UserDTO userDto;
+        if (format == Format.NDJSON) {
+            try {
+                userDto = objectMapper.readValue(line, UserDTO.class);
+            } catch (JsonProcessingException exception) {
+                reject(result, lineNumber, null, "Fila con formato inválido", false);
+                return null;
+            }
+        } else {
+            // Se separa por la primera coma: el nombre de usuario no contiene comas, la contraseña sí puede
+            int separator = line.indexOf(',');
+            if (separator < 0) {
+                reject(result, lineNumber, null, "Fila con formato inválido", false);
+                return null;
+            }
+            userDto = new UserDTO(line.substring(0, separator).trim(), line.substring(separator + 1));
+        }
+
+        Set<ConstraintViolation<UserDTO>> violations = validator.validate(userDto);
+        if (!violations.isEmpty()) {
+            reject(result, lineNumber, userDto.getUsername(), violations.iterator().next().getMessage(), false);
+            return null;
+        }
+        return new Row(lineNumber, userDto.getUsername(), userDto.getPassword());
+    }
+
+    /**
+     * Importa un lote: descarta repetidos y existentes, cifra en paralelo e inserta en una sola transacción.
+     */
+    private void importBatch(List<Row> batch, ImportResultDTO result) {
+        Set<String> seen = new HashSet<>();
+        List<Row> unique = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            if (seen.add(row.username())) {
+                unique.add(row);
+            } else {
+                reject(result, row.line(), row.username(), "Usuario repetido en el archivo", true);
+            }
+        }
+
+        Set<String> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                SELECT_EXISTING, Map.of("usernames", seen), String.class));
+        List<Row> pending = new ArrayList<>(unique.size());
+        for (Row row : unique) {
+            if (existing.contains(row.username())) {
+                reject(result, row.line(), row.username(), "Usuario ya existe", true);
+            } else {
+                pending.add(row);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<String>> hashes = new ArrayList<>(pending.size());
+        for (Row row : pending) {
+            hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.password()), hashingExecutor));
+        }
+        List<Object[]> users = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            users.add(new Object[]{pending.get(i).username(), hashes.get(i).join()});
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER, users));
+            result.setImported(result.getImported() + users.size());
+        } catch (DataIntegrityViolationException exception) {
+            // Otro proceso registró alguno de los usuarios entre la consulta y la inserción, o una fila viola otra
+            // restricción: se reintenta fila por fila para aislar las filas rechazadas
+            for (int i = 0; i < pending.size(); i++) {
+                try {
+                    jdbcTemplate.update(INSERT_USER, users.get(i));
+                    result.setImported(result.getImported() + 1);
+                } catch (DuplicateKeyException rowException) {
+                    reject(result, pending.get(i).line(), pending.get(i).username(), "Usuario ya existe", true);
+                } catch (DataIntegrityViolationException rowException) {
+                    reject(result, pending.get(i).line(), pending.get(i).username(),
+                            "Fila rechazada por la base de datos", false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Registra una fila omitida, respetando el límite de errores detallados.
+     */
+    private void reject(ImportResultDTO result, long line, String username, String message, boolean duplicate) {
+        if (duplicate) {
+            result.setDuplicates(result.getDuplicates() + 1);
+        } else {
+            result.setInvalid(result.getInvalid() + 1);
+        }
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new ImportRowErrorDTO(line, username, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    /**
+     * Fila leída del archivo y validada.
+     */
+    private record Row(long line, String username, String password) {
+    }
+}
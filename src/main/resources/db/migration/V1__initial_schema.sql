@@ -0,0 +1,32 @@
+-- Esquema inicial, equivalente al que generaba Hibernate con ddl-auto=update contra MySQL.
+-- Las bases existentes creadas por Hibernate se registran en la versión 0 (spring.flyway.baseline-on-migrate) y esta
+-- migración crea solo las tablas que les faltan: las anteriores a los tokens de actualización solo tienen la tabla user.
+-- Los índices van dentro de cada tabla porque MySQL no admite create index if not exists.
+
+create table if not exists user (
+    id bigint not null auto_increment,
+    username varchar(255),
+    password varchar(255),
+    primary key (id),
+    constraint uk_user_username unique (username)
+);
+
+create table if not exists refresh_token (
+    id bigint not null auto_increment,
+    token_hash varbinary(32) not null,
+    family_id bigint not null,
+    username varchar(255) not null,
+    expires_at datetime(6) not null,
+    used bit not null,
+    primary key (id),
+    constraint uk_refresh_token_hash unique (token_hash),
+    index idx_refresh_token_family (family_id)
+);
+
+create table if not exists revoked_token (
+    id bigint not null auto_increment,
+    token_id varchar(36) not null,
+    expires_at datetime(6) not null,
+    primary key (id),
+    constraint uk_revoked_token_id unique (token_id)
+);
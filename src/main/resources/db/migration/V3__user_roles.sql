@@ -0,0 +1,4 @@
+-- Roles del usuario como máscara de bits (1 = USER, 2 = ADMIN).
+-- La columna roles y el índice idx_user_credentials (username, password, roles) se agregan en la migración 2
+-- (UserCredentialsIndexMigration) en una sola sentencia, para que la tabla user se indexe una sola vez al actualizar.
+-- Esta versión se conserva sin sentencias para las bases que ya la aplicaron.
@@ -0,0 +1,176 @@
+package com.rest.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Ejecuta las suites JMH, guarda los resultados en JSON y los compara con una línea base almacenada.
+ *
+ * <p>Para cada benchmark presente en ambos archivos compara los intervalos de confianza del 99.9 % que reporta JMH;
+ * en modo throughput un puntaje menor es una regresión y en los modos de tiempo lo es un puntaje mayor. Un benchmark
+ * empeora solo si su intervalo actual no se superpone con el de la base y la variación del puntaje supera además la
+ * tolerancia, de modo que el ruido de una máquina compartida no hace fallar el build. Si alguno empeora el proceso
+ * termina con código 1, lo que hace fallar el build.</p>
+ *
+ * <p>Cada benchmark se ejecuta en varios forks para que el intervalo incluya la variación entre JVMs; la base se
+ * registra con el mismo número de forks.</p>
+ *
+ * <p>Parámetros (propiedades del sistema):</p>
+ * <ul>
+ *     <li>{@code benchmark.include}: expresión regular de los benchmarks a ejecutar.</li>
+ *     <li>{@code benchmark.result}: archivo JSON de resultados, por defecto {@code target/jmh-result.json}.</li>
+ *     <li>{@code benchmark.baseline}: archivo JSON de la línea base, por defecto {@code benchmarks/baseline.json}.</li>
+ *     <li>{@code benchmark.forks}: forks por benchmark, reemplaza al de las anotaciones, por defecto 3.</li>
+ *     <li>{@code benchmark.tolerance}: variación mínima del puntaje para considerar una regresión, por defecto 0.05.</li>
+ *     <li>{@code benchmark.update-baseline}: si es true, reemplaza la línea base con los resultados y no compara.</li>
+ *     <li>{@code benchmark.profilers}: perfiladores JMH separados por coma, por ejemplo {@code gc} para los bytes
+ *     asignados por operación; sus métricas no se comparan.</li>
+ * </ul>
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark
+ * ./mvnw -Pbenchmark -Dbenchmark.include=JwtUtilsBenchmark -Dbenchmark.update-baseline=true
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * Suites por defecto: las que no levantan la aplicación completa.
+	 */
+	private static final String DEFAULT_INCLUDE =
+			"JwtUtilsBenchmark|PasswordEncoderBenchmark|JwtAuthenticationFilterBenchmark"
+					+ "|GlobalExcepcionHandlerBenchmark|RateLimiterBenchmark|JwtAlgorithmBenchmark";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String include = System.getProperty("benchmark.include", DEFAULT_INCLUDE);
+		Path result = Path.of(System.getProperty("benchmark.result", "target/jmh-result.json"));
+		Path baseline = Path.of(System.getProperty("benchmark.baseline", "benchmarks/baseline.json"));
+		int forks = Integer.getInteger("benchmark.forks", 3);
+		double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.05"));
+
+		Files.createDirectories(result.toAbsolutePath().getParent());
+		ChainedOptionsBuilder options = new OptionsBuilder()
+				.include(include)
+				.forks(forks)
+				.resultFormat(ResultFormatType.JSON)
+				.result(result.toString());
+		for (String profiler : System.getProperty("benchmark.profilers", "").split(",")) {
+			if (!profiler.isBlank()) {
+				options.addProfiler(profiler.trim());
+			}
+		}
+		new Runner(options.build()).run();
+
+		if (Boolean.getBoolean("benchmark.update-baseline")) {
+			writeBaseline(result, baseline);
+			System.out.printf("%nBase de referencia actualizada: %s%n", baseline);
+			return;
+		}
+		if (!Files.exists(baseline)) {
+			System.out.printf("%nNo existe la base de referencia %s, se omite la comparacion%n", baseline);
+			return;
+		}
+		if (compare(read(baseline), read(result), tolerance) > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Copia los resultados como base de referencia sin la ruta de la JVM ni sus argumentos, que dependen de la máquina.
+	 */
+	private static void writeBaseline(Path result, Path baseline) throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		JsonNode benchmarks = objectMapper.readTree(result.toFile());
+		for (JsonNode benchmark : benchmarks) {
+			((ObjectNode) benchmark).remove(List.of("jvm", "jvmArgs"));
+		}
+		Files.createDirectories(baseline.toAbsolutePath().getParent());
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(baseline.toFile(), benchmarks);
+	}
+
+	/**
+	 * Imprime la comparación y devuelve el número de regresiones.
+	 */
+	static int compare(Map<String, Score> baseline, Map<String, Score> current, double tolerance) {
+		int regressions = 0;
+		System.out.printf("%nResultados frente a la base de referencia (intervalos de confianza, variación mínima %.0f %%)%n",
+				tolerance * 100);
+		System.out.printf("%-90s %26s %26s %9s%n", "Benchmark", "Base", "Actual", "Cambio");
+		for (Map.Entry<String, Score> entry : current.entrySet()) {
+			Score before = baseline.get(entry.getKey());
+			Score after = entry.getValue();
+			if (before == null) {
+				System.out.printf("%-90s %26s %26s %9s%n", entry.getKey(), "-", after, "nuevo");
+				continue;
+			}
+			double change = (after.value() - before.value()) / before.value();
+			boolean regression = after.higherIsBetter()
+					? after.upper() < before.lower() && change < -tolerance
+					: after.lower() > before.upper() && change > tolerance;
+			if (regression) {
+				regressions++;
+			}
+			System.out.printf("%-90s %26s %26s %+8.1f%%%s%n", entry.getKey(), before, after,
+					change * 100, regression ? "  EMPEORA" : "");
+		}
+		System.out.printf("%nBenchmarks que empeoran: %d%n", regressions);
+		return regressions;
+	}
+
+	/**
+	 * Lee un archivo de resultados JMH en JSON, indexado por benchmark y parámetros.
+	 */
+	static Map<String, Score> read(Path file) throws IOException {
+		Map<String, Score> scores = new LinkedHashMap<>();
+		for (JsonNode benchmark : new ObjectMapper().readTree(file.toFile())) {
+			StringBuilder key = new StringBuilder(benchmark.get("benchmark").asText());
+			JsonNode params = benchmark.get("params");
+			if (params != null) {
+				Map<String, String> sorted = new TreeMap<>();
+				for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+					Map.Entry<String, JsonNode> param = it.next();
+					sorted.put(param.getKey(), param.getValue().asText());
+				}
+				key.append(sorted);
+			}
+			JsonNode metric = benchmark.get("primaryMetric");
+			double score = metric.get("score").asDouble();
+			double error = metric.get("scoreError").asDouble(Double.NaN);
+			// Con una sola iteración JMH no calcula el error: el intervalo se reduce al puntaje
+			if (Double.isNaN(error)) {
+				error = 0;
+			}
+			scores.put(key.toString(), new Score(score, score - error, score + error,
+					"thrpt".equals(benchmark.get("mode").asText())));
+		}
+		return scores;
+	}
+
+	/**
+	 * Puntaje de un benchmark, su intervalo de confianza y el sentido en que mejora.
+	 */
+	record Score(double value, double lower, double upper, boolean higherIsBetter) {
+
+		@Override
+		public String toString() {
+			return String.format("%.3f ± %.3f", value, (upper - lower) / 2);
+		}
+	}
+}
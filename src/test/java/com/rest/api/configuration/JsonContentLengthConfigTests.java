@@ -0,0 +1,82 @@
+package com.rest.api.configuration;
+
+import com.rest.api.persistence.entity.Role;
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.security.utils.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compresión del perfil {@code high-throughput} sobre Tomcat: los cuerpos JSON menores que el umbral declaran su
+ * tamaño y no se comprimen; los mayores sí. Usa el cliente HTTP del JDK, que no descomprime las respuestas y deja ver
+ * los encabezados tal como los envía el servidor.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("high-throughput")
+class JsonContentLengthConfigTests {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	@Test
+	void smallJsonResponsesDeclareLengthAndAreNotCompressed() throws Exception {
+		HttpResponse<byte[]> response = importRows(1);
+
+		assertEquals(200, response.statusCode());
+		assertEquals(Optional.of(String.valueOf(response.body().length)),
+				response.headers().firstValue("Content-Length"));
+		assertTrue(response.body().length < 1024);
+		assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+	}
+
+	@Test
+	void largeJsonResponsesAreCompressed() throws Exception {
+		HttpResponse<byte[]> response = importRows(100);
+
+		assertEquals(200, response.statusCode());
+		assertEquals(Optional.of("gzip"), response.headers().firstValue("Content-Encoding"));
+	}
+
+	/**
+	 * Importa filas inválidas: el resumen crece con el detalle de cada fila y no se crean usuarios.
+	 */
+	private HttpResponse<byte[]> importRows(int rows) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/users/import"))
+				.header("Authorization", "Bearer " + token())
+				.header("Accept-Encoding", "gzip")
+				.header("Content-Type", "application/x-ndjson")
+				.POST(HttpRequest.BodyPublishers.ofString("no es json\n".repeat(rows)))
+				.build();
+		try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+			return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		}
+	}
+
+	private String token() {
+		int roles = Role.maskOf(Role.USER, Role.ADMIN);
+		if (userRepository.findByUsername("compresion").isEmpty()) {
+			userRepository.save(new UserEntity(null, "compresion", "hash", roles));
+		}
+		return jwtUtils.generateToken("compresion", roles);
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.rest.api.exception.advice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.exception.UnauthorizedException;
+import com.rest.api.presentation.dto.UserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide errores por segundo de {@link GlobalExcepcionHandler}: construcción de la respuesta y serialización
+ * del cuerpo a JSON, como lo hace el convertidor de mensajes de Spring MVC. Las respuestas de mensaje fijo ya
+ * llegan serializadas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExcepcionHandlerBenchmark {
+
+	private GlobalExcepcionHandler handler;
+	private ObjectMapper objectMapper;
+	private UnauthorizedException unauthorizedException;
+	private MethodArgumentNotValidException validationException;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		objectMapper = new ObjectMapper();
+		handler = new GlobalExcepcionHandler(new SimpleMeterRegistry(), objectMapper);
+		unauthorizedException = new UnauthorizedException("Credenciales inválidas");
+
+		BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new UserDTO(), "userDTO");
+		bindingResult.rejectValue("username", "NotBlank", "El nombre de usuario no puede estar vacío");
+		bindingResult.rejectValue("password", "NotBlank", "La contraseña es obligatoria");
+		MethodParameter parameter = new MethodParameter(
+				GlobalExcepcionHandlerBenchmark.class.getDeclaredMethod("signUp", UserDTO.class), 0);
+		validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+	}
+
+	@Benchmark
+	public byte[] unauthorized() throws Exception {
+		return handler.UnauthorizedException(unauthorizedException).getBody();
+	}
+
+	@Benchmark
+	public byte[] validation() throws Exception {
+		return objectMapper.writeValueAsBytes(handler.handleInvalidArguments(validationException).getBody());
+	}
+
+	@SuppressWarnings("unused")
+	private static void signUp(UserDTO userDto) {
+	}
+}
@@ -0,0 +1,37 @@
+package com.rest.api.exception.advice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest.api.exception.AlreadyExistsException;
+import com.rest.api.exception.UnauthorizedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GlobalExcepcionHandlerTests {
+
+	private final GlobalExcepcionHandler handler = new GlobalExcepcionHandler(new SimpleMeterRegistry(), new ObjectMapper());
+
+	@Test
+	void responsesDoNotShareMutableState() {
+		ResponseEntity<byte[]> unauthorized = handler.UnauthorizedException(new UnauthorizedException("Credenciales inválidas"));
+		handler.alreadyExistsException(new AlreadyExistsException("Usuario ya existe"));
+		handler.UnauthorizedException(new UnauthorizedException("Token inválido"));
+
+		assertEquals("{\"Status\":\"Error\",\"Message\":\"Credenciales inválidas\",\"Code\":\"UNAUTHORIZED\"}",
+				new String(unauthorized.getBody(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void reusesSerializedBodyForRepeatedMessages() {
+		byte[] first = handler.UnauthorizedException(new UnauthorizedException("Credenciales inválidas")).getBody();
+		byte[] second = handler.UnauthorizedException(new UnauthorizedException("Credenciales inválidas")).getBody();
+
+		assertSame(first, second);
+	}
+
+}
@@ -0,0 +1,232 @@
+package com.rest.api.loadtest;
+
+import com.rest.api.ApiApplication;
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.security.utils.JwtUtils;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prueba de carga de extremo a extremo con tráfico mixto de registro, inicio de sesión y {@code /api/v1/hello}.
+ *
+ * <p>Levanta la aplicación en el mismo proceso con el perfil {@code embedded-db} (H2 en memoria en modo MySQL),
+ * por lo que no necesita MySQL ni red. Registra los usuarios iniciales a través del repositorio, mantiene cada
+ * conexión ocupada durante el tiempo configurado eligiendo el endpoint según los pesos indicados, y reporta por
+ * endpoint y nivel de concurrencia las solicitudes por segundo, las latencias p50/p99/p999 y la tasa de errores.</p>
+ *
+ * <p>Parámetros (propiedades del sistema):</p>
+ * <ul>
+ *     <li>{@code loadtest.profile}: perfiles de Spring adicionales, por ejemplo {@code virtual-threads}.</li>
+ *     <li>{@code loadtest.users}: usuarios registrados antes de la prueba, por defecto 1000.</li>
+ *     <li>{@code loadtest.mix}: pesos de cada endpoint, por defecto {@code sign-up=1,log-in=2,hello=7}.</li>
+ *     <li>{@code loadtest.concurrency}: niveles de concurrencia separados por coma, por defecto {@code 1000,5000,10000}.</li>
+ *     <li>{@code loadtest.duration-seconds}: duración de cada nivel, por defecto 30.</li>
+ * </ul>
+ *
+ * <pre>
+ * ./mvnw -Ploadtest -Dloadtest.profile=virtual-threads -Dloadtest.users=10000 -Dloadtest.mix=log-in=1,hello=9
+ * </pre>
+ */
+public final class LoadTestHarness {
+
+	private static final String PASSWORD = "password";
+
+	/**
+	 * Endpoints que genera la prueba.
+	 */
+	private enum Endpoint {
+		SIGN_UP("sign-up"), LOG_IN("log-in"), HELLO("hello");
+
+		private final String label;
+
+		Endpoint(String label) {
+			this.label = label;
+		}
+
+		private static Endpoint of(String label) {
+			for (Endpoint endpoint : values()) {
+				if (endpoint.label.equals(label)) {
+					return endpoint;
+				}
+			}
+			throw new IllegalArgumentException("Endpoint desconocido: " + label);
+		}
+	}
+
+	private LoadTestHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String profile = System.getProperty("loadtest.profile", "");
+		int users = Integer.getInteger("loadtest.users", 1000);
+		Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+		Endpoint[] mix = parseMix(System.getProperty("loadtest.mix", "sign-up=1,log-in=2,hello=7"));
+		List<Integer> concurrencyLevels = new ArrayList<>();
+		for (String level : System.getProperty("loadtest.concurrency", "1000,5000,10000").split(",")) {
+			concurrencyLevels.add(Integer.parseInt(level.trim()));
+		}
+
+		SpringApplicationBuilder builder = new SpringApplicationBuilder(ApiApplication.class)
+				.properties("server.port=0")
+				.profiles("embedded-db");
+		if (!profile.isBlank()) {
+			builder.profiles(profile.split(","));
+		}
+		try (ConfigurableApplicationContext context = builder.run()) {
+			String[] tokens = seed(context, users);
+			String baseUri = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+			AtomicLong signUps = new AtomicLong();
+
+			System.out.printf("perfil=%s usuarios=%d segundos=%s mezcla=%s%n", profile.isBlank() ? "default" : profile,
+					users, duration.toSeconds(), System.getProperty("loadtest.mix", "sign-up=1,log-in=2,hello=7"));
+			System.out.printf("%12s %10s %12s %10s %10s %10s %10s%n",
+					"conexiones", "endpoint", "req/s", "p50 ms", "p99 ms", "p999 ms", "errores %");
+			for (int concurrency : concurrencyLevels) {
+				Map<Endpoint, Result> results = run(baseUri, tokens, mix, signUps, concurrency, duration);
+				for (Map.Entry<Endpoint, Result> entry : results.entrySet()) {
+					Result result = entry.getValue();
+					long requests = result.latency().getTotalCount();
+					System.out.printf("%12d %10s %12.1f %10.2f %10.2f %10.2f %10.2f%n", concurrency, entry.getKey().label,
+							requests / (double) duration.toSeconds(),
+							result.latency().getValueAtPercentile(50) / 1e6,
+							result.latency().getValueAtPercentile(99) / 1e6,
+							result.latency().getValueAtPercentile(99.9) / 1e6,
+							requests == 0 ? 0.0 : result.errors().sum() * 100.0 / requests);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Registra los usuarios iniciales a través del repositorio y devuelve un token de acceso por usuario.
+	 *
+	 * <p>Todos comparten la misma contraseña, cifrada una sola vez.</p>
+	 */
+	private static String[] seed(ConfigurableApplicationContext context, int users) {
+		IUserRepository userRepository = context.getBean(IUserRepository.class);
+		JwtUtils jwtUtils = context.getBean(JwtUtils.class);
+		String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+		String[] tokens = new String[users];
+		List<UserEntity> batch = new ArrayList<>(1000);
+		for (int i = 0; i < users; i++) {
+			batch.add(new UserEntity(null, "usuario-" + i, encodedPassword));
+			tokens[i] = jwtUtils.generateToken("usuario-" + i);
+			if (batch.size() == 1000 || i == users - 1) {
+				userRepository.saveAll(batch);
+				batch.clear();
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * Convierte los pesos {@code endpoint=peso} en una tabla donde cada endpoint aparece tantas veces como su peso.
+	 */
+	private static Endpoint[] parseMix(String mix) {
+		List<Endpoint> table = new ArrayList<>();
+		for (String entry : mix.split(",")) {
+			String[] parts = entry.trim().split("=");
+			Endpoint endpoint = Endpoint.of(parts[0].trim());
+			for (int weight = Integer.parseInt(parts[1].trim()); weight > 0; weight--) {
+				table.add(endpoint);
+			}
+		}
+		if (table.isEmpty()) {
+			throw new IllegalArgumentException("La mezcla no tiene pesos positivos: " + mix);
+		}
+		return table.toArray(Endpoint[]::new);
+	}
+
+	/**
+	 * Ejecuta un nivel de concurrencia: un hilo virtual por conexión enviando solicitudes hasta agotar el tiempo.
+	 */
+	private static Map<Endpoint, Result> run(String baseUri, String[] tokens, Endpoint[] mix, AtomicLong signUps,
+											 int concurrency, Duration duration) throws InterruptedException {
+		Map<Endpoint, Result> results = new EnumMap<>(Endpoint.class);
+		for (Endpoint endpoint : mix) {
+			results.computeIfAbsent(endpoint, ignored ->
+					new Result(new ConcurrentHistogram(TimeUnit.SECONDS.toNanos(60), 3), new LongAdder()));
+		}
+		long deadline = System.nanoTime() + duration.toNanos();
+
+		try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+			 ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+			 HttpClient httpClient = HttpClient.newBuilder()
+					 .version(HttpClient.Version.HTTP_1_1)
+					 .executor(clientExecutor)
+					 .build()) {
+			for (int i = 0; i < concurrency; i++) {
+				workers.execute(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					while (System.nanoTime() < deadline) {
+						Endpoint endpoint = mix[random.nextInt(mix.length)];
+						HttpRequest request = request(baseUri, endpoint, tokens, signUps, random);
+						Result result = results.get(endpoint);
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() != 200) {
+								result.errors().increment();
+							}
+						} catch (Exception e) {
+							result.errors().increment();
+						}
+						result.latency().recordValue(
+								Math.min(System.nanoTime() - start, result.latency().getHighestTrackableValue()));
+					}
+				});
+			}
+			workers.shutdown();
+			workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+		}
+		return results;
+	}
+
+	/**
+	 * Construye la solicitud de un endpoint: usuarios nuevos para el registro y usuarios iniciales al azar para el resto.
+	 */
+	private static HttpRequest request(String baseUri, Endpoint endpoint, String[] tokens, AtomicLong signUps,
+									   ThreadLocalRandom random) {
+		int user = random.nextInt(tokens.length);
+		HttpRequest.Builder builder = switch (endpoint) {
+			case SIGN_UP -> post(baseUri + "/auth/sign-up", "nuevo-" + signUps.incrementAndGet());
+			case LOG_IN -> post(baseUri + "/auth/log-in", "usuario-" + user);
+			case HELLO -> HttpRequest.newBuilder(URI.create(baseUri + "/api/v1/hello"))
+					.header("Authorization", "Bearer " + tokens[user])
+					.GET();
+		};
+		return builder.timeout(Duration.ofSeconds(30)).build();
+	}
+
+	private static HttpRequest.Builder post(String uri, String username) {
+		return HttpRequest.newBuilder(URI.create(uri))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(
+						"{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"));
+	}
+
+	private record Result(Histogram latency, LongAdder errors) {
+	}
+}
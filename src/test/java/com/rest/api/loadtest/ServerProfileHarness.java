@@ -0,0 +1,248 @@
+package com.rest.api.loadtest;
+
+import com.rest.api.ApiApplication;
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.security.utils.JwtUtils;
+import jakarta.servlet.Filter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.WebFilter;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compara perfiles del servidor (HTTP/2, keep-alive y compresión) midiendo el rendimiento y la reutilización de
+ * conexiones con tráfico autenticado a {@code /api/v1/hello}.
+ *
+ * <p>Levanta la aplicación una vez por perfil con {@code embedded-db}, registra los usuarios a través del repositorio
+ * y, tras un calentamiento, mantiene cada hilo virtual enviando solicitudes durante el tiempo configurado. Las
+ * conexiones se cuentan en el servidor por puerto remoto, así que la cuenta vale para HTTP/1.1 y HTTP/2 y para Tomcat
+ * y Netty. Reporta solicitudes por segundo, latencias p50/p99, errores, conexiones abiertas y solicitudes por conexión.
+ * En corridas largas el sistema operativo puede reutilizar un puerto efímero y la cuenta de conexiones queda por
+ * debajo de la real.</p>
+ *
+ * <p>Parámetros (propiedades del sistema):</p>
+ * <ul>
+ *     <li>{@code serverprofile.profiles}: entradas {@code perfiles:versión} separadas por coma, por defecto
+ *     {@code default:HTTP_1_1,high-throughput:HTTP_1_1,high-throughput:HTTP_2}; varios perfiles se unen con
+ *     {@code +}, por ejemplo {@code high-throughput+reactive:HTTP_2}, y {@code default} no agrega ninguno.</li>
+ *     <li>{@code serverprofile.users}: usuarios registrados, por defecto 1000.</li>
+ *     <li>{@code serverprofile.concurrency}: hilos cliente, por defecto 200.</li>
+ *     <li>{@code serverprofile.warmup-seconds}: calentamiento sin medir, por defecto 5.</li>
+ *     <li>{@code serverprofile.duration-seconds}: duración de cada medición, por defecto 30.</li>
+ * </ul>
+ *
+ * <pre>
+ * ./mvnw -Pserver-profile -Dserverprofile.profiles=virtual-threads:HTTP_1_1,high-throughput+virtual-threads:HTTP_2
+ * </pre>
+ */
+public final class ServerProfileHarness {
+
+	private ServerProfileHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String entries = System.getProperty("serverprofile.profiles",
+				"default:HTTP_1_1,high-throughput:HTTP_1_1,high-throughput:HTTP_2");
+		int users = Integer.getInteger("serverprofile.users", 1000);
+		int concurrency = Integer.getInteger("serverprofile.concurrency", 200);
+		Duration warmup = Duration.ofSeconds(Long.getLong("serverprofile.warmup-seconds", 5));
+		Duration duration = Duration.ofSeconds(Long.getLong("serverprofile.duration-seconds", 30));
+
+		System.out.printf("usuarios=%d hilos=%d segundos=%d%n", users, concurrency, duration.toSeconds());
+		System.out.printf("%-32s %9s %9s %12s %8s %8s %10s %11s %10s%n", "perfiles", "pedido", "obtenido",
+				"req/s", "p50 ms", "p99 ms", "errores %", "conexiones", "req/conex");
+		String[] runs = entries.split(",");
+		for (int index = 0; index < runs.length; index++) {
+			String[] parts = runs[index].trim().split(":");
+			String profiles = parts[0].trim();
+			HttpClient.Version version = HttpClient.Version.valueOf(parts[1].trim());
+
+			SpringApplicationBuilder builder = new SpringApplicationBuilder(ApiApplication.class)
+					.sources(ConnectionCounterConfig.class)
+					.properties("server.port=0")
+					.profiles("embedded-db");
+			if (!profiles.equals("default")) {
+				builder.profiles(profiles.split("\\+"));
+			}
+			try (ConfigurableApplicationContext context = builder.run()) {
+				String[] tokens = seed(context, "usuario-" + index + "-", users);
+				URI uri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+						+ "/api/v1/hello");
+				ConnectionCounter counter = context.getBean(ConnectionCounter.class);
+
+				try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+					 HttpClient httpClient = HttpClient.newBuilder()
+							 .version(version)
+							 .executor(clientExecutor)
+							 .build()) {
+					run(httpClient, uri, tokens, concurrency, warmup);
+					counter.reset();
+					Result result = run(httpClient, uri, tokens, concurrency, duration);
+					long requests = result.latency().getTotalCount();
+					int connections = counter.connections();
+					System.out.printf("%-32s %9s %9s %12.1f %8.2f %8.2f %10.2f %11d %10.1f%n", profiles, version,
+							result.negotiated().get() == null ? "-" : result.negotiated().get(),
+							requests / (double) duration.toSeconds(),
+							result.latency().getValueAtPercentile(50) / 1e6,
+							result.latency().getValueAtPercentile(99) / 1e6,
+							requests == 0 ? 0.0 : result.errors().sum() * 100.0 / requests,
+							connections,
+							connections == 0 ? 0.0 : counter.requests() / (double) connections);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Registra los usuarios a través del repositorio y devuelve un token de acceso por usuario.
+	 *
+	 * <p>La base H2 en memoria sobrevive entre contextos del mismo proceso, por eso cada perfil usa su propio prefijo.</p>
+	 */
+	private static String[] seed(ConfigurableApplicationContext context, String prefix, int users) {
+		IUserRepository userRepository = context.getBean(IUserRepository.class);
+		JwtUtils jwtUtils = context.getBean(JwtUtils.class);
+		String encodedPassword = context.getBean(PasswordEncoder.class).encode("password");
+
+		String[] tokens = new String[users];
+		List<UserEntity> batch = new ArrayList<>(1000);
+		for (int i = 0; i < users; i++) {
+			batch.add(new UserEntity(null, prefix + i, encodedPassword));
+			tokens[i] = jwtUtils.generateToken(prefix + i);
+			if (batch.size() == 1000 || i == users - 1) {
+				userRepository.saveAll(batch);
+				batch.clear();
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * Mantiene cada hilo virtual enviando solicitudes hasta agotar el tiempo, reutilizando el mismo cliente.
+	 */
+	private static Result run(HttpClient httpClient, URI uri, String[] tokens, int concurrency, Duration duration)
+			throws InterruptedException {
+		Result result = new Result(new ConcurrentHistogram(TimeUnit.SECONDS.toNanos(60), 3), new LongAdder(),
+				new AtomicReference<>());
+		long deadline = System.nanoTime() + duration.toNanos();
+
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				workers.execute(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					while (System.nanoTime() < deadline) {
+						HttpRequest request = HttpRequest.newBuilder(uri)
+								.header("Authorization", "Bearer " + tokens[random.nextInt(tokens.length)])
+								.timeout(Duration.ofSeconds(30))
+								.GET()
+								.build();
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() != 200) {
+								result.errors().increment();
+							}
+							result.negotiated().set(response.version());
+						} catch (Exception e) {
+							result.errors().increment();
+						}
+						result.latency().recordValue(
+								Math.min(System.nanoTime() - start, result.latency().getHighestTrackableValue()));
+					}
+				});
+			}
+			workers.shutdown();
+			workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+		}
+		return result;
+	}
+
+	private record Result(Histogram latency, LongAdder errors, AtomicReference<HttpClient.Version> negotiated) {
+	}
+
+	/**
+	 * Cuenta en el servidor las solicitudes y los puertos remotos distintos, es decir, las conexiones usadas.
+	 */
+	static final class ConnectionCounter {
+
+		private final Set<Integer> ports = ConcurrentHashMap.newKeySet();
+		private final LongAdder requests = new LongAdder();
+
+		void record(int port) {
+			ports.add(port);
+			requests.increment();
+		}
+
+		void reset() {
+			ports.clear();
+			requests.reset();
+		}
+
+		int connections() {
+			return ports.size();
+		}
+
+		long requests() {
+			return requests.sum();
+		}
+	}
+
+	/**
+	 * Filtros que alimentan el contador en cada pila. Sin {@code @Configuration} para que el escaneo de componentes de
+	 * las pruebas no lo registre; solo se agrega a la aplicación de este arnés.
+	 */
+	static class ConnectionCounterConfig {
+
+		@Bean
+		ConnectionCounter connectionCounter() {
+			return new ConnectionCounter();
+		}
+
+		@Bean
+		@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+		FilterRegistrationBean<Filter> connectionCounterFilter(ConnectionCounter counter) {
+			FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+				counter.record(request.getRemotePort());
+				chain.doFilter(request, response);
+			});
+			registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+			return registration;
+		}
+
+		@Bean
+		@Order(Ordered.HIGHEST_PRECEDENCE)
+		@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+		WebFilter connectionCounterWebFilter(ConnectionCounter counter) {
+			return (exchange, chain) -> {
+				InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+				counter.record(remoteAddress == null ? 0 : remoteAddress.getPort());
+				return chain.filter(exchange);
+			};
+		}
+	}
+}
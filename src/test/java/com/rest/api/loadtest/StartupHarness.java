@@ -0,0 +1,127 @@
+package com.rest.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el tiempo hasta la primera respuesta y la memoria residente (RSS) de la aplicación en un modo de arranque.
+ *
+ * <p>Lanza el comando indicado como proceso aparte, consulta la URL cada 10 ms hasta obtener un 200 y en ese momento
+ * lee el RSS del proceso; después lo detiene. El mismo comando se repite varias veces y se reportan la mediana y el
+ * mínimo. Sirve para cualquier modo: jar, jar con CDS o binario nativo.</p>
+ *
+ * <p>Parámetros (propiedades del sistema):</p>
+ * <ul>
+ *     <li>{@code startup.command}: comando que inicia la aplicación, separado por espacios.</li>
+ *     <li>{@code startup.url}: URL de la primera solicitud, por defecto {@code http://localhost:8080/.well-known/jwks.json}
+ *     (pública y sin base de datos).</li>
+ *     <li>{@code startup.runs}: repeticiones, por defecto 5.</li>
+ *     <li>{@code startup.timeout-seconds}: espera máxima por repetición, por defecto 60.</li>
+ * </ul>
+ *
+ * <pre>
+ * ./mvnw -Pstartup -Dstartup.command="java -jar target/api-0.0.1-SNAPSHOT.jar"
+ * ./mvnw -Pstartup -Dstartup.command="java -XX:SharedArchiveFile=target/cds/application.jsa -jar target/cds/api-0.0.1-SNAPSHOT.jar"
+ * ./mvnw -Pstartup -Dstartup.command="target/api"
+ * </pre>
+ */
+public final class StartupHarness {
+
+	private StartupHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String command = System.getProperty("startup.command");
+		if (command == null || command.isBlank()) {
+			throw new IllegalArgumentException("Falta -Dstartup.command");
+		}
+		URI uri = URI.create(System.getProperty("startup.url", "http://localhost:8080/.well-known/jwks.json"));
+		int runs = Integer.getInteger("startup.runs", 5);
+		Duration timeout = Duration.ofSeconds(Integer.getInteger("startup.timeout-seconds", 60));
+
+		List<Long> times = new ArrayList<>(runs);
+		List<Long> rss = new ArrayList<>(runs);
+		try (HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(500)).build()) {
+			for (int run = 1; run <= runs; run++) {
+				Result result = measure(Arrays.asList(command.trim().split("\\s+")), uri, timeout, httpClient);
+				times.add(result.millis());
+				rss.add(result.rssKb());
+				System.out.printf("Ejecucion %d: primera respuesta en %d ms, RSS %.1f MB%n",
+						run, result.millis(), result.rssKb() / 1024.0);
+			}
+		}
+		Collections.sort(times);
+		Collections.sort(rss);
+		System.out.printf("%n%s%nPrimera respuesta: mediana %d ms, minimo %d ms%nRSS: mediana %.1f MB, minimo %.1f MB%n",
+				command, times.get(runs / 2), times.get(0), rss.get(runs / 2) / 1024.0, rss.get(0) / 1024.0);
+	}
+
+	/**
+	 * Inicia el proceso, espera la primera respuesta 200 y devuelve el tiempo transcurrido y el RSS en ese momento.
+	 */
+	private static Result measure(List<String> command, URI uri, Duration timeout, HttpClient httpClient)
+			throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command)
+				.redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.start();
+		try {
+			long deadline = start + timeout.toNanos();
+			while (System.nanoTime() < deadline) {
+				if (!process.isAlive()) {
+					throw new IllegalStateException("El proceso terminó con código " + process.exitValue());
+				}
+				try {
+					HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+					if (response.statusCode() == 200) {
+						long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+						return new Result(millis, rssKb(process.pid()));
+					}
+				} catch (IOException exception) {
+					// Todavía no escucha
+				}
+				Thread.sleep(10);
+			}
+			throw new IllegalStateException("Sin respuesta 200 en " + timeout.toSeconds() + " s");
+		} finally {
+			process.destroy();
+			if (!process.waitFor(10, TimeUnit.SECONDS)) {
+				process.destroyForcibly().waitFor();
+			}
+		}
+	}
+
+	/**
+	 * RSS del proceso en KB, desde {@code /proc} en Linux o con {@code ps} en otros sistemas.
+	 */
+	private static long rssKb(long pid) throws IOException, InterruptedException {
+		Path status = Path.of("/proc", Long.toString(pid), "status");
+		if (Files.exists(status)) {
+			for (String line : Files.readAllLines(status)) {
+				if (line.startsWith("VmRSS:")) {
+					return Long.parseLong(line.replaceAll("\\D", ""));
+				}
+			}
+		}
+		Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+		String output = new String(ps.getInputStream().readAllBytes()).trim();
+		ps.waitFor();
+		return output.isEmpty() ? 0 : Long.parseLong(output);
+	}
+
+	private record Result(long millis, long rssKb) {
+	}
+}
@@ -0,0 +1,65 @@
+package com.rest.api.observability;
+
+import com.rest.api.persistence.entity.Role;
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.security.utils.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	@Test
+	void exposesAuthHistogramsToAdminsOnly() throws Exception {
+		int roles = Role.maskOf(Role.USER, Role.ADMIN);
+		if (userRepository.findByUsername("metricas").isEmpty()) {
+			userRepository.save(new UserEntity(null, "metricas", "hash", roles));
+		}
+		mockMvc.perform(get("/api/v1/hello").header("Authorization", "Bearer no-es-un-token"));
+
+		mockMvc.perform(get("/actuator/health"))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/actuator/prometheus")
+						.header("Authorization", "Bearer " + jwtUtils.generateToken("metricas", Role.USER.mask())))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/metrics")
+						.header("Authorization", "Bearer " + jwtUtils.generateToken("metricas", Role.USER.mask())))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/metrics/auth.jwt.verify")
+						.header("Authorization", "Bearer " + jwtUtils.generateToken("metricas", Role.USER.mask())))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/metrics")
+						.header("Authorization", "Bearer " + jwtUtils.generateToken("metricas", roles)))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/actuator/prometheus")
+						.header("Authorization", "Bearer " + jwtUtils.generateToken("metricas", roles)))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("auth_jwt_verify_seconds_bucket")))
+				.andExpect(content().string(containsString("auth_jwt_invalid_total 1.0")))
+				.andExpect(content().string(containsString("auth_password_hash_seconds_bucket{operation=\"matches\"")));
+	}
+
+}
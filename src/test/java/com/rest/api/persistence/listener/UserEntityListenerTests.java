@@ -0,0 +1,34 @@
+package com.rest.api.persistence.listener;
+
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.security.principal.ReactivePrincipalResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"spring.main.web-application-type=reactive", "security.principal.resolution=CACHE"})
+@ActiveProfiles("reactive")
+class UserEntityListenerTests {
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private ReactivePrincipalResolver principalResolver;
+
+	@Test
+	void deletingAUserInvalidatesTheReactiveCache() {
+		UserEntity user = userRepository.save(new UserEntity(null, "eliminado", "hash"));
+		assertTrue(principalResolver.exists("eliminado").block());
+
+		userRepository.delete(user);
+
+		assertFalse(principalResolver.exists("eliminado").block());
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.rest.api.persistence.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchemaMigrationTests {
+
+	@Test
+	void upgradesDatabaseWithOnlyTheUserTable() throws SQLException {
+		String url = url("legacy_user_only");
+		execute(url, "create table user (id bigint not null auto_increment, username varchar(255), "
+				+ "password varchar(255), primary key (id), constraint UK_sb8bbouer5wak8vyiiy4pf2bx unique (username))",
+				"insert into user (username, password) values ('juan', 'hash')");
+
+		migrate(url);
+
+		assertTrue(tableExists(url, "refresh_token"));
+		assertTrue(tableExists(url, "revoked_token"));
+		assertTrue(indexExists(url, "user", "idx_user_credentials"));
+		assertFalse(indexExists(url, "user", "idx_user_username_password"));
+		assertEquals(1, roles(url, "juan"));
+	}
+
+	@Test
+	void upgradesDatabaseWhereHibernateCreatedTheCredentialsIndex() throws SQLException {
+		String url = url("legacy_with_index");
+		execute(url, "create table user (id bigint not null auto_increment, username varchar(255), "
+				+ "password varchar(255), primary key (id), constraint uk_user_username unique (username))",
+				"create index idx_user_username_password on user (username, password)",
+				"create table refresh_token (id bigint not null auto_increment, token_hash varbinary(32) not null, "
+						+ "family_id bigint not null, username varchar(255) not null, expires_at datetime(6) not null, "
+						+ "used bit not null, primary key (id))",
+				"insert into user (username, password) values ('ana', 'hash')");
+
+		migrate(url);
+
+		assertTrue(tableExists(url, "revoked_token"));
+		assertTrue(indexExists(url, "user", "idx_user_credentials"));
+		assertFalse(indexExists(url, "user", "idx_user_username_password"));
+		assertEquals(1, roles(url, "ana"));
+	}
+
+	@Test
+	void leavesDatabaseWhereHibernateCreatedTheRolesUnchanged() throws SQLException {
+		String url = url("legacy_with_roles");
+		execute(url, "create table user (id bigint not null auto_increment, username varchar(255), "
+				+ "password varchar(255), roles int not null, primary key (id), "
+				+ "constraint uk_user_username unique (username))",
+				"create index idx_user_credentials on user (username, password, roles)",
+				"insert into user (username, password, roles) values ('luis', 'hash', 3)");
+
+		migrate(url);
+
+		assertTrue(indexExists(url, "user", "idx_user_credentials"));
+		assertEquals(3, roles(url, "luis"));
+	}
+
+	private static String url(String database) {
+		return "jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+	}
+
+	private static void migrate(String url) {
+		Flyway.configure()
+				.dataSource(url, "sa", "")
+				.locations("classpath:db/migration")
+				.javaMigrations(new UserCredentialsIndexMigration())
+				.baselineOnMigrate(true)
+				.baselineVersion("0")
+				.load()
+				.migrate();
+	}
+
+	private static void execute(String url, String... statements) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			for (String sql : statements) {
+				statement.execute(sql);
+			}
+		}
+	}
+
+	private static boolean tableExists(String url, String table) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 ResultSet tables = connection.getMetaData().getTables(null, null, table, null)) {
+			return tables.next();
+		}
+	}
+
+	private static boolean indexExists(String url, String table, String index) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 ResultSet indexes = connection.getMetaData().getIndexInfo(null, null, table, false, true)) {
+			while (indexes.next()) {
+				if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static int roles(String url, String username) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 Statement statement = connection.createStatement();
+			 ResultSet row = statement.executeQuery("select roles from user where username = '" + username + "'")) {
+			row.next();
+			return row.getInt(1);
+		}
+	}
+}
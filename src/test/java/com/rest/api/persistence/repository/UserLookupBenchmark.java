@@ -0,0 +1,81 @@
+package com.rest.api.persistence.repository;
+
+import com.rest.api.ApiApplication;
+import com.rest.api.persistence.entity.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el tiempo por consulta de las tres formas de buscar un usuario por nombre: la entidad completa, la
+ * proyección de credenciales y la consulta de existencia, sobre la base de datos en memoria de las pruebas.
+ *
+ * <p>Con {@code -Dbenchmark.profilers=gc} se reportan además los bytes asignados por consulta
+ * ({@code gc.alloc.rate.norm}).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserLookupBenchmark {
+
+	private static final int USERS = 1000;
+
+	private ConfigurableApplicationContext context;
+	private IUserRepository userRepository;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(ApiApplication.class)
+				.properties("server.port=0", "logging.level.root=WARN")
+				.run();
+		userRepository = context.getBean(IUserRepository.class);
+		List<UserEntity> users = new ArrayList<>(USERS);
+		for (int i = 0; i < USERS; i++) {
+			users.add(new UserEntity(null, "lookup" + i, "$2a$10$abcdefghijklmnopqrstuuNlpkvhxTz5F/XRUEwEKJ9zdUdoGN8Ri"));
+		}
+		userRepository.saveAll(users);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Object entity() {
+		return userRepository.findByUsername(nextUsername()).orElseThrow();
+	}
+
+	@Benchmark
+	public Object credentials() {
+		return userRepository.findCredentialsByUsername(nextUsername()).orElseThrow();
+	}
+
+	@Benchmark
+	public boolean exists() {
+		return userRepository.existsByUsername(nextUsername());
+	}
+
+	private String nextUsername() {
+		next = next == USERS - 1 ? 0 : next + 1;
+		return "lookup" + next;
+	}
+}
@@ -0,0 +1,69 @@
+package com.rest.api.persistence.routing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * La réplica es una base vacía que nunca recibe los usuarios del primario, como una réplica muy atrasada.
+ */
+@SpringBootTest(properties = "persistence.replicas.urls=" + ReadReplicaRoutingTests.REPLICA_URL)
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTests {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:api_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+	static {
+		JdbcDataSource replica = new JdbcDataSource();
+		replica.setURL(REPLICA_URL);
+		replica.setUser("sa");
+		new JdbcTemplate(replica).execute("create table if not exists user "
+				+ "(id bigint auto_increment primary key, username varchar(255) unique, password varchar(255), "
+				+ "roles int not null default 1)");
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Test
+	void logInRightAfterSignUpReadsFromPrimary() throws Exception {
+		perform("/auth/sign-up", "recien", "password").andExpect(status().isOk());
+
+		perform("/auth/log-in", "recien", "password").andExpect(status().isOk());
+	}
+
+	@Test
+	void logInLookupGoesToReplica() throws Exception {
+		jdbcTemplate.update("insert into user (username, password) values (?, ?)",
+				"sin-replicar", passwordEncoder.encode("password"));
+
+		perform("/auth/log-in", "sin-replicar", "password").andExpect(status().isUnauthorized());
+	}
+
+	private ResultActions perform(String path, String username, String password) throws Exception {
+		ResultActions actions = mockMvc.perform(post(path)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"));
+		MvcResult result = actions.andReturn();
+		return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.rest.api.persistence.routing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaRoutingDataSourceTests {
+
+	private SwitchableDataSource secondReplica;
+	private ReplicaRoutingDataSource routingDataSource;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate writeTransaction;
+	private TransactionTemplate readTransaction;
+
+	@BeforeEach
+	void setUp() {
+		secondReplica = new SwitchableDataSource(node("replica-1"));
+		routingDataSource = new ReplicaRoutingDataSource(node("primary"), List.of(node("replica-0"), secondReplica));
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		writeTransaction = new TransactionTemplate(transactionManager);
+		readTransaction = new TransactionTemplate(transactionManager);
+		readTransaction.setReadOnly(true);
+	}
+
+	@Test
+	void sendsReadOnlyTransactionsToReplicasInTurnAndWritesToPrimary() {
+		assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+		assertEquals("primary", currentNode());
+
+		assertEquals("replica-0", readTransaction.execute(status -> currentNode()));
+		assertEquals("replica-1", readTransaction.execute(status -> currentNode()));
+		assertEquals("replica-0", readTransaction.execute(status -> currentNode()));
+	}
+
+	@Test
+	void skipsUnavailableReplicaUntilHealthCheckPasses() {
+		secondReplica.down = true;
+
+		assertEquals("replica-0", readTransaction.execute(status -> currentNode()));
+		assertEquals("primary", readTransaction.execute(status -> currentNode()));
+		assertFalse(routingDataSource.isAvailable(1));
+		assertEquals("replica-0", readTransaction.execute(status -> currentNode()));
+		assertEquals("replica-0", readTransaction.execute(status -> currentNode()));
+
+		secondReplica.down = false;
+		routingDataSource.checkHealth();
+
+		assertTrue(routingDataSource.isAvailable(1));
+		assertEquals("replica-0", readTransaction.execute(status -> currentNode()));
+		assertEquals("replica-1", readTransaction.execute(status -> currentNode()));
+	}
+
+	@Test
+	void readsOwnWritesFromPrimary() {
+		assertTrue(ReadYourWrites.requirePrimary());
+		try {
+			assertEquals("primary", readTransaction.execute(status -> currentNode()));
+		} finally {
+			ReadYourWrites.releasePrimary();
+		}
+		assertEquals("replica-0", readTransaction.execute(status -> currentNode()));
+	}
+
+	@Test
+	void remembersRecentWritesWithinWindow() {
+		ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofMinutes(1), 10);
+		readYourWrites.recordWrite("nuevo");
+
+		assertTrue(readYourWrites.isRecent("nuevo"));
+		assertFalse(readYourWrites.isRecent("otro"));
+		assertFalse(new ReadYourWrites(Duration.ZERO, 10).isRecent("nuevo"));
+	}
+
+	private String currentNode() {
+		return jdbcTemplate.queryForObject("select name from node", String.class);
+	}
+
+	private static DataSource node(String name) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+		new JdbcTemplate(dataSource).execute("create table node (name varchar(20)); insert into node values ('" + name + "')");
+		return dataSource;
+	}
+
+	/**
+	 * Réplica que se puede desconectar para simular una caída.
+	 */
+	private static final class SwitchableDataSource extends DelegatingDataSource {
+
+		private volatile boolean down;
+
+		private SwitchableDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (down) {
+				throw new SQLException("Réplica desconectada");
+			}
+			return super.getConnection();
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+package com.rest.api.presentation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.security.utils.JwksTokenVerifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas funcionales de autenticación sobre el servidor real; {@link ReactiveAuthControllerTests} repite las mismas
+ * pruebas sobre la pila reactiva.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthControllerTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Test
+	void signUpLogInAndCallProtectedEndpoint() {
+		perform("/auth/sign-up", "ana", "password").expectStatus().isOk();
+
+		JsonNode body = logIn("ana");
+
+		hello(body.get("token").asText()).expectStatus().isOk();
+	}
+
+	@Test
+	void rotatesRefreshTokensAndRevokesFamilyOnReuse() {
+		perform("/auth/sign-up", "rota", "password").expectStatus().isOk();
+		String first = logIn("rota").get("refreshToken").asText();
+
+		JsonNode refreshed = refresh(first)
+				.expectStatus().isOk()
+				.expectBody(JsonNode.class).returnResult().getResponseBody();
+		String second = refreshed.get("refreshToken").asText();
+		hello(refreshed.get("token").asText()).expectStatus().isOk();
+
+		refresh(first).expectStatus().isUnauthorized();
+		refresh(second).expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void logOutRevokesAccessAndRefreshTokens() {
+		perform("/auth/sign-up", "salida", "password").expectStatus().isOk();
+		JsonNode login = logIn("salida");
+		String token = login.get("token").asText();
+		hello(token).expectStatus().isOk();
+
+		webTestClient.post().uri("/auth/log-out")
+				.header("Authorization", "Bearer " + token)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"refreshToken\":\"" + login.get("refreshToken").asText() + "\"}")
+				.exchange()
+				.expectStatus().isOk();
+
+		hello(token).expectStatus().isUnauthorized();
+		refresh(login.get("refreshToken").asText()).expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void rejectsDuplicateUsersAndBadCredentials() {
+		perform("/auth/sign-up", "luis", "password").expectStatus().isOk();
+
+		perform("/auth/sign-up", "luis", "password")
+				.expectStatus().isEqualTo(409)
+				.expectBody().jsonPath("$.Message").isEqualTo("Usuario ya existe");
+		perform("/auth/log-in", "luis", "incorrecta")
+				.expectStatus().isUnauthorized()
+				.expectBody().jsonPath("$.Message").isEqualTo("Credenciales inválidas");
+		perform("/auth/log-in", "nadie", "password")
+				.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void rejectsInvalidSignUpWithFieldErrors() {
+		perform("/auth/sign-up", "con espacios", "corta")
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.Code").isEqualTo("BAD_REQUEST")
+				.jsonPath("$.Errors.username").isEqualTo("El nombre de usuario no debe contener espacios")
+				.jsonPath("$.Errors.password").isEqualTo("La contraseña debe tener al menos 6 caracteres");
+	}
+
+	@Test
+	void rejectsOverlongUsernameAsInvalid() {
+		perform("/auth/sign-up", "u".repeat(256), "password")
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.Errors.username").isEqualTo("El nombre de usuario debe tener como máximo 255 caracteres");
+	}
+
+	@Test
+	void rehashesLegacyPasswordOnLogIn() throws Exception {
+		userRepository.save(new UserEntity(null, "legado", new BCryptPasswordEncoder(4).encode("password")));
+
+		perform("/auth/log-in", "legado", "password").expectStatus().isOk();
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!storedPassword("legado").startsWith("{bcrypt}") && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertTrue(storedPassword("legado").startsWith("{bcrypt}"));
+		perform("/auth/log-in", "legado", "password").expectStatus().isOk();
+	}
+
+	@Test
+	void throttlesRepeatedLogInsForTheSameUsername() {
+		for (int attempt = 0; attempt < 5; attempt++) {
+			perform("/auth/log-in", "fuerza-bruta", "password").expectStatus().isUnauthorized();
+		}
+		perform("/auth/log-in", "fuerza-bruta", "password")
+				.expectStatus().isEqualTo(429)
+				.expectBody().jsonPath("$.Code").isEqualTo("TOO_MANY_REQUESTS");
+		// La base no distingue mayúsculas: las variantes del nombre comparten la cubeta
+		perform("/auth/log-in", " Fuerza-BRUTA ", "password").expectStatus().isEqualTo(429);
+	}
+
+	@Test
+	void publishesJwksToVerifyTokensOffline() {
+		perform("/auth/sign-up", "remota", "password").expectStatus().isOk();
+		String token = logIn("remota").get("token").asText();
+
+		byte[] jwks = webTestClient.get().uri("/.well-known/jwks.json")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.keys[0].kty").isEqualTo("EC")
+				.jsonPath("$.keys[0].alg").isEqualTo("ES256")
+				.returnResult().getResponseBody();
+
+		JwksTokenVerifier verifier = new JwksTokenVerifier(() -> new String(jwks, StandardCharsets.UTF_8),
+				Duration.ofMinutes(1));
+		assertEquals("remota", verifier.verify(token).username());
+	}
+
+	@Test
+	void rejectsProtectedEndpointWithoutToken() {
+		webTestClient.get().uri("/api/v1/hello").exchange().expectStatus().isUnauthorized();
+	}
+
+	private WebTestClient.ResponseSpec hello(String token) {
+		return webTestClient.get().uri("/api/v1/hello").header("Authorization", "Bearer " + token).exchange();
+	}
+
+	private JsonNode logIn(String username) {
+		return perform("/auth/log-in", username, "password")
+				.expectStatus().isOk()
+				.expectBody(JsonNode.class).returnResult().getResponseBody();
+	}
+
+	private WebTestClient.ResponseSpec refresh(String refreshToken) {
+		return webTestClient.post().uri("/auth/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"refreshToken\":\"" + refreshToken + "\"}")
+				.exchange();
+	}
+
+	private String storedPassword(String username) {
+		return userRepository.findByUsername(username).orElseThrow().getPassword();
+	}
+
+	private WebTestClient.ResponseSpec perform(String path, String username, String password) {
+		return webTestClient.post().uri(path)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}")
+				.exchange();
+	}
+
+}
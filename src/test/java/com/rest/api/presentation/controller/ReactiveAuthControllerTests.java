@@ -0,0 +1,14 @@
+package com.rest.api.presentation.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Las pruebas de {@link AuthControllerTests} sobre la pila reactiva: WebFlux en Netty y usuarios en R2DBC.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+class ReactiveAuthControllerTests extends AuthControllerTests {
+
+}
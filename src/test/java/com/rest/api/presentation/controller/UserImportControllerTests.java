@@ -0,0 +1,121 @@
+package com.rest.api.presentation.controller;
+
+import com.rest.api.persistence.entity.Role;
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.security.utils.JwtUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "users.import.batch-size=2")
+@AutoConfigureMockMvc
+class UserImportControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	@Autowired
+	private UserImportController userImportController;
+
+	@Test
+	void importsNdjsonAndReportsRejectedRows() throws Exception {
+		userRepository.save(new UserEntity(null, "existente", "hash"));
+
+		String body = """
+				{"username":"import1","password":"password"}
+				{"username":"existente","password":"password"}
+				{"username":"import2","password":"corta"}
+				no es json
+				{"username":"import3","password":"password"}
+				{"username":"import3","password":"password"}
+				""";
+
+		mockMvc.perform(post("/api/v1/users/import")
+						.header("Authorization", "Bearer " + token())
+						.contentType("application/x-ndjson")
+						.content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(2))
+				.andExpect(jsonPath("$.duplicates").value(2))
+				.andExpect(jsonPath("$.invalid").value(2))
+				.andExpect(jsonPath("$.errors[0].line").value(2))
+				.andExpect(jsonPath("$.errors[0].message").value("Usuario ya existe"));
+
+		assertTrue(userRepository.findByUsername("import1").isPresent());
+		assertTrue(userRepository.findByUsername("import3").isPresent());
+	}
+
+	@Test
+	void importsCsvWithHeader() throws Exception {
+		String body = "username,password\ncsv1,password,con,comas\ncsv2,password\n";
+
+		mockMvc.perform(post("/api/v1/users/import")
+						.header("Authorization", "Bearer " + token())
+						.contentType("text/csv")
+						.content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(2))
+				.andExpect(jsonPath("$.errors").isEmpty());
+	}
+
+	@Test
+	void rejectsUsersWithoutAdminRole() throws Exception {
+		if (userRepository.findByUsername("usuario").isEmpty()) {
+			userRepository.save(new UserEntity(null, "usuario", "hash"));
+		}
+
+		mockMvc.perform(post("/api/v1/users/import")
+						.header("Authorization", "Bearer " + jwtUtils.generateToken("usuario"))
+						.contentType("text/csv")
+						.content("username,password\nrechazado,password\n"))
+				.andExpect(status().isForbidden())
+				.andExpect(jsonPath("$.Code").value("FORBIDDEN"));
+
+		assertTrue(userRepository.findByUsername("rechazado").isEmpty());
+	}
+
+	@Test
+	void methodSecurityRejectsUsersWithoutAdminRoleOutsideTheRouteRules() {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("usuario", null,
+				AuthorityUtils.createAuthorityList("ROLE_USER")));
+		try {
+			assertThrows(AccessDeniedException.class, () -> userImportController.importCsv(
+					new ByteArrayInputStream("metodo,password\n".getBytes(StandardCharsets.UTF_8))));
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+
+		assertTrue(userRepository.findByUsername("metodo").isEmpty());
+	}
+
+	private String token() {
+		int roles = Role.maskOf(Role.USER, Role.ADMIN);
+		if (userRepository.findByUsername("admin").isEmpty()) {
+			userRepository.save(new UserEntity(null, "admin", "hash", roles));
+		}
+		return jwtUtils.generateToken("admin", roles);
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.rest.api.security.cache;
+
+import com.rest.api.security.utils.JwtAlgorithm;
+import com.rest.api.security.utils.JwtUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VerifiedTokenCacheTests {
+
+	private final JwtUtils jwtUtils = new JwtUtils(JwtAlgorithm.HS512, "cache-secret", "", "v1", List.of(), 900000);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtils, meterRegistry, Tracer.NOOP, true, 100, 300);
+
+	@Test
+	void servesRepeatedTokensFromCacheUntilInvalidated() {
+		String token = jwtUtils.generateToken("juan");
+
+		assertEquals("juan", cache.resolve(token).username());
+		assertEquals("juan", cache.resolve(token).username());
+		assertEquals(1.0, hits());
+
+		cache.invalidate(token);
+		assertEquals("juan", cache.resolve(token).username());
+		assertEquals(1.0, hits());
+
+		cache.invalidateUser("juan");
+		assertEquals("juan", cache.resolve(token).username());
+		assertEquals(1.0, hits());
+	}
+
+	@Test
+	void doesNotCacheInvalidTokens() {
+		assertNull(cache.resolve("no-es-un-token"));
+		assertNull(cache.resolve("no-es-un-token"));
+		assertEquals(0.0, hits());
+		assertEquals(2.0, meterRegistry.get("auth.jwt.invalid").counter().count());
+		assertEquals(2, meterRegistry.get("auth.jwt.verify").timer().count());
+	}
+
+	private double hits() {
+		return meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count();
+	}
+
+}
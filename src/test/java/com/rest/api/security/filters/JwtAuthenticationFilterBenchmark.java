@@ -0,0 +1,112 @@
+package com.rest.api.security.filters;
+
+import com.rest.api.security.cache.VerifiedTokenCache;
+import com.rest.api.security.configuration.RouteRulesConfig;
+import com.rest.api.security.principal.PrincipalResolutionMode;
+import com.rest.api.security.principal.PrincipalResolver;
+import com.rest.api.security.revocation.TokenRevocationService;
+import com.rest.api.security.routing.RouteAuthorizationManager;
+import com.rest.api.security.utils.JwtAlgorithm;
+import com.rest.api.security.utils.JwtUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide solicitudes por segundo de {@link JwtAuthenticationFilter} con solicitudes simuladas, con y sin la caché
+ * de tokens verificados, para un token válido, para uno con firma inválida y para una ruta pública, donde el token no
+ * se procesa.
+ *
+ * <p>El usuario se resuelve con {@link PrincipalResolutionMode#CLAIMS} para medir solo el filtro, sin base de datos.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final FilterChain CHAIN = (request, response) -> {
+	};
+
+	@Param({"true", "false"})
+	private boolean cacheEnabled;
+
+	private JwtAuthenticationFilter filter;
+	private MockHttpServletRequest validRequest;
+	private MockHttpServletRequest invalidRequest;
+	private MockHttpServletRequest publicRequest;
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setUp() {
+		JwtUtils jwtUtils = new JwtUtils(JwtAlgorithm.HS512, "benchmark-secret-key-benchmark-secret-key", "", "current",
+				List.of(), 900000);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		filter = new JwtAuthenticationFilter(
+				new VerifiedTokenCache(jwtUtils, meterRegistry, Tracer.NOOP, cacheEnabled, 10000, 300),
+				new TokenRevocationService(null, 60000),
+				new PrincipalResolver(null, meterRegistry, Tracer.NOOP, PrincipalResolutionMode.CLAIMS, 0, 0),
+				new RouteAuthorizationManager(new RouteRulesConfig().routeRules("/actuator")));
+
+		String token = jwtUtils.generateToken("juan");
+		validRequest = request("GET", "/api/v1/hello", "Bearer " + token);
+		JwtUtils otherKey = new JwtUtils(JwtAlgorithm.HS512, "otra-clave", "", "current", List.of(), 900000);
+		invalidRequest = request("GET", "/api/v1/hello", "Bearer " + otherKey.generateToken("juan"));
+		publicRequest = request("POST", "/auth/log-in", "Bearer " + token);
+		response = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public Object validToken() throws ServletException, IOException {
+		return filter(validRequest);
+	}
+
+	@Benchmark
+	public Object invalidToken() throws ServletException, IOException {
+		return filter(invalidRequest);
+	}
+
+	@Benchmark
+	public Object publicRoute() throws ServletException, IOException {
+		return filter(publicRequest);
+	}
+
+	private Object filter(MockHttpServletRequest request) throws ServletException, IOException {
+		try {
+			filter.doFilter(request, response, CHAIN);
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+			// Cada iteración es una solicitud nueva: se descartan los atributos de la anterior
+			request.clearAttributes();
+		}
+	}
+
+	private static MockHttpServletRequest request(String method, String path, String authorization) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+		request.setServletPath(path);
+		request.addHeader("Authorization", authorization);
+		return request;
+	}
+}
@@ -0,0 +1,83 @@
+package com.rest.api.security.principal;
+
+import com.rest.api.ApiApplication;
+import com.rest.api.persistence.entity.UserEntity;
+import com.rest.api.persistence.repository.IUserRepository;
+import com.rest.api.security.utils.JwtUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide solicitudes por segundo a {@code /api/v1/hello} con cada {@link PrincipalResolutionMode},
+ * levantando la aplicación completa sobre la base de datos en memoria de las pruebas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PrincipalResolutionBenchmark {
+
+	@Param({"CLAIMS", "CACHE", "DATABASE"})
+	private PrincipalResolutionMode mode;
+
+	private ConfigurableApplicationContext context;
+	private HttpClient httpClient;
+	private HttpRequest request;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(ApiApplication.class)
+				.properties("server.port=0",
+						"security.principal.resolution=" + mode,
+						"logging.level.root=WARN")
+				.run();
+		context.getBean(IUserRepository.class).save(new UserEntity(null, "juan", "hash"));
+		String token = context.getBean(JwtUtils.class).generateToken("juan");
+		int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+		httpClient = HttpClient.newHttpClient();
+		request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/hello"))
+				.header("Authorization", "Bearer " + token)
+				.GET()
+				.build();
+	}
+
+	@TearDown
+	public void tearDown() {
+		httpClient.close();
+		context.close();
+	}
+
+	@Benchmark
+	public int hello() throws IOException, InterruptedException {
+		HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Respuesta inesperada: " + response.statusCode());
+		}
+		return response.statusCode();
+	}
+}
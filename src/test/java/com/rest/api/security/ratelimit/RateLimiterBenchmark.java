@@ -0,0 +1,55 @@
+package com.rest.api.security.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide intentos por segundo de {@link RateLimiter} con 8 hilos, todos sobre la misma clave
+ * (máxima contención sobre un único CAS) y repartidos entre muchas claves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+	private static final int KEYS = 10_000;
+
+	private RateLimiter rateLimiter;
+	private String[] keys;
+
+	@Setup
+	public void setUp() {
+		rateLimiter = new RateLimiter(20, Duration.ofNanos(1));
+		keys = new String[KEYS];
+		for (int i = 0; i < KEYS; i++) {
+			keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+		}
+	}
+
+	@Benchmark
+	public boolean sameKey() {
+		return rateLimiter.tryAcquire(keys[0]);
+	}
+
+	@Benchmark
+	public boolean manyKeys() {
+		return rateLimiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+	}
+}
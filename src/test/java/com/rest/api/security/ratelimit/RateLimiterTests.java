@@ -0,0 +1,41 @@
+package com.rest.api.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTests {
+
+	private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+	@Test
+	void allowsBurstThenRefillsOneTokenPerInterval() {
+		RateLimiter rateLimiter = new RateLimiter(3, Duration.ofSeconds(1));
+		long now = 1_000 * SECOND;
+
+		assertTrue(rateLimiter.tryAcquire("ip", now));
+		assertTrue(rateLimiter.tryAcquire("ip", now));
+		assertTrue(rateLimiter.tryAcquire("ip", now));
+		assertFalse(rateLimiter.tryAcquire("ip", now));
+		assertTrue(rateLimiter.tryAcquire("otra-ip", now));
+
+		assertTrue(rateLimiter.tryAcquire("ip", now + SECOND));
+		assertFalse(rateLimiter.tryAcquire("ip", now + SECOND));
+	}
+
+	@Test
+	void evictsRefilledBuckets() {
+		RateLimiter rateLimiter = new RateLimiter(1, Duration.ofNanos(1));
+		rateLimiter.tryAcquire("ip");
+		assertEquals(1, rateLimiter.size());
+
+		rateLimiter.evictIdle();
+
+		assertEquals(0, rateLimiter.size());
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.rest.api.security.revocation;
+
+import com.rest.api.persistence.entity.RevokedTokenEntity;
+import com.rest.api.persistence.repository.IRevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TokenRevocationServiceTests {
+
+	@Autowired
+	private TokenRevocationService tokenRevocationService;
+
+	@Autowired
+	private IRevokedTokenRepository revokedTokenRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void picksUpRevocationsWrittenByOtherInstances() {
+		// Simula revocaciones hechas por otra instancia escribiendo directamente en la tabla
+		revokedTokenRepository.save(new RevokedTokenEntity(null, "vigente", Instant.now().plusSeconds(600)));
+		revokedTokenRepository.save(new RevokedTokenEntity(null, "expirado", Instant.now().minusSeconds(1)));
+		assertFalse(tokenRevocationService.isRevoked("vigente"));
+
+		tokenRevocationService.poll();
+
+		assertTrue(tokenRevocationService.isRevoked("vigente"));
+		assertFalse(tokenRevocationService.isRevoked("expirado"));
+		assertFalse(tokenRevocationService.isRevoked(null));
+	}
+
+	@Test
+	void picksUpRevocationsCommittedAfterLaterIdsOnResync() {
+		TokenRevocationService otherInstance = new TokenRevocationService(revokedTokenRepository, 0);
+		Instant expiresAt = Instant.now().plusSeconds(600);
+		long reservedId = revokedTokenRepository.save(new RevokedTokenEntity(null, "reservado", expiresAt)).getId();
+		revokedTokenRepository.deleteById(reservedId);
+		for (int i = 0; i < 150; i++) {
+			revokedTokenRepository.save(new RevokedTokenEntity(null, "posterior-" + i, expiresAt));
+		}
+		otherInstance.poll();
+
+		// Una transacción que obtuvo su identificador antes que las 150 anteriores confirma ahora
+		jdbcTemplate.update("insert into revoked_token (id, token_id, expires_at) values (?, ?, ?)",
+				reservedId, "tardio", Timestamp.from(expiresAt));
+		otherInstance.poll();
+
+		assertTrue(otherInstance.isRevoked("posterior-149"));
+		assertTrue(otherInstance.isRevoked("tardio"));
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.rest.api.security.routing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteRulesTests {
+
+	private final RouteRules routeRules = RouteRules.builder()
+			.route("/actuator/health/**", RouteRule.PUBLIC)
+			.route("/actuator/**", RouteRule.role("ADMIN"))
+			.route(HttpMethod.POST, "/auth/**", RouteRule.PUBLIC)
+			.route("/api/**", RouteRule.AUTHENTICATED)
+			.route(HttpMethod.POST, "/api/v1/users/import", RouteRule.role("ADMIN"))
+			.defaultRule(RouteRule.AUTHENTICATED)
+			.build();
+
+	@Test
+	void picksTheMostSpecificRule() {
+		assertEquals(RouteRule.PUBLIC, routeRules.match("POST", "/auth/log-in"));
+		assertEquals(RouteRule.PUBLIC, routeRules.match("POST", "/auth"));
+		assertEquals(RouteRule.AUTHENTICATED, routeRules.match("GET", "/auth/log-in"));
+		assertEquals(RouteRule.PUBLIC, routeRules.match("GET", "/actuator/health"));
+		assertEquals(RouteRule.PUBLIC, routeRules.match("GET", "/actuator/health/liveness"));
+		assertEquals(RouteRule.role("ADMIN"), routeRules.match("GET", "/actuator/metrics"));
+		assertEquals(RouteRule.role("ADMIN"), routeRules.match("GET", "/actuator/prometheus"));
+		assertEquals(RouteRule.AUTHENTICATED, routeRules.match("GET", "/api/v1/hello"));
+		assertEquals(RouteRule.role("ADMIN"), routeRules.match("POST", "/api/v1/users/import/"));
+		assertEquals(RouteRule.AUTHENTICATED, routeRules.match("GET", "/api/v1/users/import"));
+		assertEquals(RouteRule.AUTHENTICATED, routeRules.match("GET", "/authx"));
+		assertEquals(RouteRule.AUTHENTICATED, routeRules.match("GET", "/"));
+	}
+
+	@Test
+	void rejectsUnsupportedOrRepeatedPatterns() {
+		assertThrows(IllegalArgumentException.class, () -> RouteRules.builder().route("/api/*/hello", RouteRule.PUBLIC));
+		assertThrows(IllegalArgumentException.class, () -> RouteRules.builder().route("api/**", RouteRule.PUBLIC));
+		assertThrows(IllegalArgumentException.class, () -> RouteRules.builder()
+				.route("/api/**", RouteRule.PUBLIC)
+				.route("/api/**", RouteRule.AUTHENTICATED));
+	}
+
+	@Test
+	void permitsByAuthenticationAndRole() {
+		UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken("ana", null, List.of());
+		UsernamePasswordAuthenticationToken admin = new UsernamePasswordAuthenticationToken("juan", null,
+				AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+		AnonymousAuthenticationToken anonymous = new AnonymousAuthenticationToken("key", "anonymousUser",
+				AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+		assertTrue(RouteRule.PUBLIC.permits(null));
+		assertFalse(RouteRule.AUTHENTICATED.permits(null));
+		assertFalse(RouteRule.AUTHENTICATED.permits(anonymous));
+		assertTrue(RouteRule.AUTHENTICATED.permits(user));
+		assertFalse(RouteRule.role("ADMIN").permits(user));
+		assertTrue(RouteRule.role("ADMIN").permits(admin));
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.rest.api.security.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.rest.api.security.utils.JwtUtilsTests.encode;
+import static com.rest.api.security.utils.JwtUtilsTests.p256KeyPair;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JwksTokenVerifierTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void verifiesCurrentAndPreviousKeysFromJwks() throws Exception {
+		KeyPair previous = p256KeyPair();
+		KeyPair current = p256KeyPair();
+		JwtUtils before = new JwtUtils(JwtAlgorithm.ES256, encode(previous.getPrivate()), encode(previous.getPublic()),
+				"v1", List.of(), 900000);
+		JwtUtils after = new JwtUtils(JwtAlgorithm.ES256, encode(current.getPrivate()), encode(current.getPublic()),
+				"v2", List.of("v1:" + encode(previous.getPublic())), 900000);
+		AtomicInteger downloads = new AtomicInteger();
+		JwksTokenVerifier verifier = new JwksTokenVerifier(() -> {
+			downloads.incrementAndGet();
+			return json(after);
+		}, Duration.ofMinutes(1));
+
+		assertEquals("juan", verifier.verify(after.generateToken("juan")).username());
+		assertEquals("ana", verifier.verify(before.generateToken("ana")).username());
+		assertEquals(1, downloads.get());
+	}
+
+	@Test
+	void rejectsForeignTokensWithoutDownloadingOnEveryRequest() throws Exception {
+		KeyPair keyPair = p256KeyPair();
+		JwtUtils jwtUtils = new JwtUtils(JwtAlgorithm.ES256, encode(keyPair.getPrivate()), encode(keyPair.getPublic()),
+				"v1", List.of(), 900000);
+		JwtUtils sharedSecret = new JwtUtils(JwtAlgorithm.HS512, "secreto", "", "v1", List.of(), 900000);
+		JwtUtils unknownKey = new JwtUtils(JwtAlgorithm.HS512, "secreto", "", "otra", List.of(), 900000);
+		AtomicInteger downloads = new AtomicInteger();
+		JwksTokenVerifier verifier = new JwksTokenVerifier(() -> {
+			downloads.incrementAndGet();
+			return json(jwtUtils);
+		}, Duration.ofMinutes(1));
+
+		assertNull(verifier.verify(sharedSecret.generateToken("juan")));
+		assertNull(verifier.verify(unknownKey.generateToken("juan")));
+		assertNull(verifier.verify(unknownKey.generateToken("juan")));
+		assertEquals(1, downloads.get());
+	}
+
+	private String json(JwtUtils jwtUtils) {
+		try {
+			return objectMapper.writeValueAsString(Map.of("keys", jwtUtils.jwks()));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.rest.api.security.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide tokens por segundo al firmar y verificar con cada {@link JwtAlgorithm}
+ * (RSA de 2048 bits y ECDSA sobre P-256).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAlgorithmBenchmark {
+
+	@Param({"HS512", "RS256", "ES256"})
+	private JwtAlgorithm algorithm;
+
+	private JwtUtils jwtUtils;
+	private String token;
+
+	@Setup
+	public void setUp() throws Exception {
+		if (algorithm.isAsymmetric()) {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.keyType());
+			generator.initialize(algorithm == JwtAlgorithm.RS256 ? 2048 : 256);
+			KeyPair keyPair = generator.generateKeyPair();
+			jwtUtils = new JwtUtils(algorithm,
+					Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()),
+					Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+					"v1", List.of(), 900000);
+		} else {
+			jwtUtils = new JwtUtils(algorithm, "benchmark-secret-key-benchmark-secret-key", "", "v1", List.of(), 900000);
+		}
+		token = jwtUtils.generateToken("juan");
+	}
+
+	@Benchmark
+	public String sign() {
+		return jwtUtils.generateToken("juan");
+	}
+
+	@Benchmark
+	public VerifiedToken verify() {
+		return jwtUtils.verifyToken(token);
+	}
+}
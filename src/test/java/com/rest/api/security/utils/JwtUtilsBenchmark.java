@@ -0,0 +1,69 @@
+package com.rest.api.security.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide tokens por segundo de {@link JwtUtils} frente a la implementación anterior,
+ * que reconstruía el algoritmo y el verificador en cada llamada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+	private JwtUtils jwtUtils;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtils = new JwtUtils(JwtAlgorithm.HS512, SECRET, "", "current", List.of("old:previous-secret"), 900000);
+		token = jwtUtils.generateToken("juan");
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtils.generateToken("juan");
+	}
+
+	@Benchmark
+	public String validateToken() {
+		return jwtUtils.validateToken(token);
+	}
+
+	@Benchmark
+	public String generateTokenRebuildingAlgorithm() {
+		return JWT.create()
+				.withClaim("username", "juan")
+				.withExpiresAt(new Date(System.currentTimeMillis() + 1800000))
+				.sign(Algorithm.HMAC512(SECRET));
+	}
+
+	@Benchmark
+	public String validateTokenRebuildingVerifier() {
+		return JWT.require(Algorithm.HMAC512(SECRET))
+				.build()
+				.verify(token)
+				.getClaim("username")
+				.asString();
+	}
+}
@@ -0,0 +1,91 @@
+package com.rest.api.security.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.rest.api.persistence.entity.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtUtilsTests {
+
+	@Test
+	void validatesTokensSignedWithPreviousKeys() {
+		JwtUtils before = new JwtUtils(JwtAlgorithm.HS512, "old-secret", "", "v1", List.of(), 900000);
+		JwtUtils after = new JwtUtils(JwtAlgorithm.HS512, "new-secret", "", "v2", List.of("v1:old-secret"), 900000);
+
+		assertEquals("juan", after.validateToken(before.generateToken("juan")));
+		assertEquals("juan", after.validateToken(after.generateToken("juan")));
+	}
+
+	@Test
+	void rejectsMissingSigningKey() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new JwtUtils(JwtAlgorithm.ES256, "", "", "v1", List.of(), 900000));
+		assertThrows(IllegalArgumentException.class,
+				() -> new JwtUtils(JwtAlgorithm.HS512, " ", "", "v1", List.of(), 900000));
+	}
+
+	@Test
+	void rejectsTokensWithUnknownKeyOrBadSignature() {
+		JwtUtils retired = new JwtUtils(JwtAlgorithm.HS512, "retired-secret", "", "v0", List.of(), 900000);
+		JwtUtils forged = new JwtUtils(JwtAlgorithm.HS512, "forged-secret", "", "v2", List.of(), 900000);
+		JwtUtils current = new JwtUtils(JwtAlgorithm.HS512, "new-secret", "", "v2", List.of("v1:old-secret"), 900000);
+
+		assertNull(current.validateToken(retired.generateToken("juan")));
+		assertNull(current.validateToken(forged.generateToken("juan")));
+		assertNull(current.validateToken("no-es-un-token"));
+	}
+
+	@Test
+	void carriesRolesAsBitmask() {
+		JwtUtils jwtUtils = new JwtUtils(JwtAlgorithm.HS512, "secret", "", "v1", List.of(), 900000);
+		int roles = Role.maskOf(Role.USER, Role.ADMIN);
+
+		VerifiedToken verifiedToken = jwtUtils.verifyToken(jwtUtils.generateToken("juan", roles));
+
+		assertEquals(roles, verifiedToken.roles());
+		assertEquals(AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"),
+				Role.authorities(verifiedToken.roles()));
+		assertSame(Role.authorities(roles), Role.authorities(verifiedToken.roles()));
+
+		// Los tokens emitidos antes de incluir los roles se tratan como USER
+		String legacy = JWT.create()
+				.withKeyId("v1")
+				.withClaim(JwtUtils.USERNAME_CLAIM, "ana")
+				.withExpiresAt(new Date(System.currentTimeMillis() + 60000))
+				.sign(Algorithm.HMAC512("secret"));
+		assertEquals(Role.USER.mask(), jwtUtils.verifyToken(legacy).roles());
+	}
+
+	@Test
+	void rejectsMismatchedKeyPair() throws Exception {
+		KeyPair signing = p256KeyPair();
+		KeyPair other = p256KeyPair();
+
+		assertThrows(IllegalArgumentException.class, () -> new JwtUtils(JwtAlgorithm.ES256,
+				encode(signing.getPrivate()), encode(other.getPublic()), "v1", List.of(), 900000));
+	}
+
+	static KeyPair p256KeyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(256);
+		return generator.generateKeyPair();
+	}
+
+	static String encode(Key key) {
+		return Base64.getEncoder().encodeToString(key.getEncoded());
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.rest.api.service;
+
+import com.rest.api.exception.AlreadyExistsException;
+import com.rest.api.presentation.dto.UserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class AuthServiceTests {
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private PasswordHashingService passwordHashingService;
+
+	@Test
+	void concurrentSignUpsForTheSameUsernameConflict() {
+		List<CompletableFuture<String>> registrations = List.of(
+				authService.register(new UserDTO("carrera", "password")),
+				authService.register(new UserDTO("carrera", "password")));
+
+		int registered = 0;
+		int conflicts = 0;
+		for (CompletableFuture<String> registration : registrations) {
+			try {
+				registration.join();
+				registered++;
+			} catch (CompletionException exception) {
+				assertInstanceOf(AlreadyExistsException.class, exception.getCause());
+				conflicts++;
+			}
+		}
+		assertEquals(1, registered);
+		assertEquals(1, conflicts);
+	}
+
+	@Test
+	void otherIntegrityViolationsAreNotReportedAsDuplicates() {
+		CompletionException exception = assertThrows(CompletionException.class,
+				() -> authService.register(new UserDTO("u".repeat(256), "password")).join());
+
+		assertInstanceOf(DataIntegrityViolationException.class, exception.getCause());
+	}
+
+	@Test
+	void dependentStagesLeaveThePasswordHashingPool() {
+		String thread = passwordHashingService.encode("password")
+				.thenApply(encodedPassword -> Thread.currentThread().getName())
+				.join();
+
+		assertFalse(thread.startsWith("password-hashing-"), thread);
+	}
+
+	@Test
+	void failedHashesAlsoCompleteOutsideThePasswordHashingPool() {
+		CountDownLatch attached = new CountDownLatch(1);
+		PasswordHashingService failingService = new PasswordHashingService(new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				try {
+					attached.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				throw new IllegalStateException("fallo de cifrado");
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return false;
+			}
+		}, new SimpleMeterRegistry(), Tracer.NOOP, 1, 1, false);
+		try {
+			CompletableFuture<String> thread = failingService.encode("password")
+					.handle((encodedPassword, failure) -> Thread.currentThread().getName());
+			attached.countDown();
+
+			assertTrue(thread.join().startsWith("password-completion-"), thread.join());
+		} finally {
+			failingService.shutdown();
+		}
+	}
+
+}